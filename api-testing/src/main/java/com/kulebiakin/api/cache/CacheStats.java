@@ -0,0 +1,23 @@
+package com.kulebiakin.api.cache;
+
+import lombok.Value;
+
+@Value
+public class CacheStats {
+    // Served from a fresh entry, or by a request collapsed into one already in flight
+    long hits;
+    // Sent to the backend and answered with a new body
+    long misses;
+    // Expired entries confirmed unchanged by a 304
+    long revalidations;
+    // Dropped to stay within maxEntries
+    long evictions;
+    // Dropped because of a create, update or delete
+    long invalidations;
+    int size;
+
+    public double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : hits / (double) lookups;
+    }
+}
@@ -0,0 +1,131 @@
+package com.kulebiakin.api.cache;
+
+import com.kulebiakin.api.cassette.Recording;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded store of GET responses keyed on path and query. Entries expire after the TTL of their endpoint and are
+ * then revalidated with their ETag; beyond {@code maxEntries} the least recently used entry is evicted.
+ */
+public final class ResponseCache {
+
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private final ResponseCacheConfig config;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    // Guarded by this; access order makes iteration run from least to most recently used
+    private final Map<String, Entry> entries;
+    // Guarded by this; bumped by every invalidation so responses fetched before it are not stored after it
+    private long generation;
+
+    public ResponseCache(ResponseCacheConfig config) {
+        this.config = config;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > config.getMaxEntries()) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    // "/users/1/posts?_limit=5" -> "/users/{id}/posts"
+    public static String endpointOf(String path) {
+        int query = path.indexOf('?');
+        return NUMERIC_SEGMENT.matcher(query < 0 ? path : path.substring(0, query)).replaceAll("/{id}");
+    }
+
+    public CacheStats getStats() {
+        int size;
+        synchronized (this) {
+            size = entries.size();
+        }
+        return new CacheStats(hits.sum(), misses.sum(), revalidations.sum(), evictions.sum(), invalidations.sum(), size);
+    }
+
+    /**
+     * Drops the entries a create, update or delete on {@code path} can change: everything under its collection
+     * and every nested listing of it, so a change to {@code /posts/1} also drops {@code /users/1/posts}. Paths are
+     * compared by whole segments: {@code /posts} leaves {@code /postsArchive} alone.
+     */
+    public synchronized void invalidate(String path) {
+        generation++;
+        String[] segments = endpointOf(path).split("/");
+        if (segments.length < 2) {
+            return;
+        }
+        String collection = "/" + segments[1];
+        Iterator<String> keys = entries.keySet().iterator();
+        while (keys.hasNext()) {
+            String endpoint = endpointOf(keys.next());
+            if (endpoint.equals(collection) || endpoint.startsWith(collection + "/") || endpoint.endsWith(collection)) {
+                keys.remove();
+                invalidations.increment();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        generation++;
+        entries.clear();
+    }
+
+    synchronized Entry get(String key) {
+        return entries.get(key);
+    }
+
+    // Taken before a request is sent and handed back to put
+    synchronized long generation() {
+        return generation;
+    }
+
+    // Stores the response unless an invalidation ran since generation was taken; it may predate the change
+    synchronized boolean put(String key, Recording recording, String etag, long generation) {
+        if (generation != this.generation) {
+            return false;
+        }
+        long expiresAt = System.nanoTime() + config.ttlOf(endpointOf(key)).toNanos();
+        entries.put(key, new Entry(recording, etag, expiresAt));
+        return true;
+    }
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordRevalidation() {
+        revalidations.increment();
+    }
+
+    static final class Entry {
+        final Recording recording;
+        final String etag;
+        final long expiresAt;
+
+        Entry(Recording recording, String etag, long expiresAt) {
+            this.recording = recording;
+            this.etag = etag;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isFresh() {
+            return System.nanoTime() - expiresAt < 0;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.kulebiakin.api.cache;
+
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Value
+@Builder
+public class ResponseCacheConfig {
+    // Entries beyond this are evicted least recently used first
+    @Builder.Default
+    int maxEntries = Integer.getInteger("api.cache.maxEntries", 1_000);
+    @Builder.Default
+    Duration defaultTtl = Duration.ofSeconds(Long.getLong("api.cache.ttlSeconds", 60));
+    // TTL per endpoint template with numeric path segments as {id}, e.g. "/users/{id}/posts"
+    @Singular
+    Map<String, Duration> ttls;
+
+    public Duration ttlOf(String endpoint) {
+        return ttls.getOrDefault(endpoint, defaultTtl);
+    }
+}
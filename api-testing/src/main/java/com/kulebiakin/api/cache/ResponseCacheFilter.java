@@ -0,0 +1,133 @@
+package com.kulebiakin.api.cache;
+
+import com.kulebiakin.api.cassette.Recording;
+import com.kulebiakin.api.core.RequestKeys;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * RestAssured filter serving GET requests from a {@link ResponseCache}.
+ * <ul>
+ *     <li>a fresh entry is returned without contacting the backend</li>
+ *     <li>an expired entry is revalidated with {@code If-None-Match}; a 304 renews it</li>
+ *     <li>identical GETs arriving while one is in flight wait for it instead of sending their own</li>
+ *     <li>any other method is passed through and invalidates the entries it can change</li>
+ * </ul>
+ * Only 200 responses are stored. A GET still in flight when a write invalidates the cache neither stores its
+ * response nor takes on new followers, since it may have been answered before the change.
+ */
+public class ResponseCacheFilter implements OrderedFilter {
+
+    private final ResponseCache cache;
+    private final ConcurrentMap<String, Call> inFlight = new ConcurrentHashMap<>();
+
+    public ResponseCacheFilter(ResponseCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext context) {
+        String key = RequestKeys.pathAndQuery(requestSpec.getURI());
+        if (!requestSpec.getMethod().equals("GET")) {
+            try {
+                return context.next(requestSpec, responseSpec);
+            } finally {
+                cache.invalidate(key);
+            }
+        }
+
+        ResponseCache.Entry entry = cache.get(key);
+        if (entry != null && entry.isFresh()) {
+            cache.recordHit();
+            return entry.recording.toResponse();
+        }
+        Call call = new Call(cache.generation());
+        Call leader = inFlight.putIfAbsent(key, call);
+        if (leader != null && leader.generation == call.generation) {
+            cache.recordHit();
+            return awaitLeader(leader.result).toResponse();
+        }
+        if (leader != null) {
+            // The leader was sent before the latest invalidation and may carry the old state; later GETs follow
+            // this call instead, unless another one took its place first
+            inFlight.replace(key, leader, call);
+        }
+        try {
+            return fetch(requestSpec, responseSpec, context, key, call);
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    // Runs right after the timing filter, so cache hits skip record/replay and the connection pool
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE + 1;
+    }
+
+    // Completes call with the response shared with the requests collapsed into this one
+    private Response fetch(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext context, String key, Call call) {
+        try {
+            return send(requestSpec, responseSpec, context, key, call);
+        } catch (RuntimeException e) {
+            call.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Response send(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                          FilterContext context, String key, Call call) {
+        // Another caller may have refreshed the entry before this one became the leader
+        ResponseCache.Entry entry = cache.get(key);
+        if (entry != null && entry.isFresh()) {
+            cache.recordHit();
+            call.result.complete(entry.recording);
+            return entry.recording.toResponse();
+        }
+        if (entry != null && entry.etag != null) {
+            requestSpec.header("If-None-Match", entry.etag);
+        }
+        Response response = context.next(requestSpec, responseSpec);
+        if (response.getStatusCode() == 304 && entry != null) {
+            cache.recordRevalidation();
+            cache.put(key, entry.recording, entry.etag, call.generation);
+            call.result.complete(entry.recording);
+            return entry.recording.toResponse();
+        }
+        cache.recordMiss();
+        Recording recording = Recording.of(response);
+        if (response.getStatusCode() == 200) {
+            cache.put(key, recording, response.getHeader("ETag"), call.generation);
+        }
+        call.result.complete(recording);
+        return response;
+    }
+
+    private static Recording awaitLeader(CompletableFuture<Recording> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    // GET in flight, with the cache generation taken before it was sent
+    private static final class Call {
+        final CompletableFuture<Recording> result = new CompletableFuture<>();
+        final long generation;
+
+        Call(long generation) {
+            this.generation = generation;
+        }
+    }
+}
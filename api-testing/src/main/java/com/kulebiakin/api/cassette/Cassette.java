@@ -0,0 +1,209 @@
+package com.kulebiakin.api.cassette;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Append-only file of recorded responses keyed on method, path and a SHA-256 of the request body.
+ * <p>
+ * Layout: a {@code CAS1} magic followed by entries of {@code [int keyLength][key][int payloadLength][payload]},
+ * where the payload is a gzip-compressed {@link Recording}. A later entry for the same key replaces an earlier one.
+ * <p>
+ * In {@link CassetteMode#REPLAY} the file is memory-mapped on the first lookup and only the keys are scanned;
+ * a payload is inflated the first time it is requested and kept decoded, so repeated replays are a map lookup.
+ */
+public final class Cassette implements AutoCloseable {
+
+    private static final int MAGIC = 0x43415331; // "CAS1"
+
+    private final Path path;
+    private final CassetteMode mode;
+    private final FileChannel writer;
+    private final Map<String, Recording> decoded = new ConcurrentHashMap<>();
+    private volatile Map<String, ByteBuffer> payloads;
+
+    private Cassette(Path path, CassetteMode mode, FileChannel writer) {
+        this.path = path;
+        this.mode = mode;
+        this.writer = writer;
+    }
+
+    /**
+     * Opens a cassette. {@link CassetteMode#RECORD} starts the file over; {@link CassetteMode#REPLAY} touches
+     * the file only on the first lookup.
+     */
+    public static Cassette open(Path path, CassetteMode mode) throws IOException {
+        if (mode != CassetteMode.RECORD) {
+            return new Cassette(path, mode, null);
+        }
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        FileChannel writer = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+        writer.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, MAGIC));
+        return new Cassette(path, mode, writer);
+    }
+
+    public static String key(String method, String path, String bodyHash) {
+        return method + ' ' + path + ' ' + bodyHash;
+    }
+
+    // Empty string for requests without a body
+    public static String bodyHash(byte[] body) {
+        if (body == null || body.length == 0) {
+            return "";
+        }
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public CassetteMode getMode() {
+        return mode;
+    }
+
+    // Whether the file has been mapped yet, REPLAY only
+    public boolean isLoaded() {
+        return payloads != null;
+    }
+
+    public Recording find(String method, String path, String bodyHash) {
+        String key = key(method, path, bodyHash);
+        Recording recording = decoded.get(key);
+        if (recording != null) {
+            return recording;
+        }
+        ByteBuffer payload = payloads().get(key);
+        if (payload == null) {
+            throw new CassetteMissException(method, path, bodyHash, this.path);
+        }
+        return decoded.computeIfAbsent(key, k -> inflate(payload.duplicate()));
+    }
+
+    public synchronized void record(String method, String path, String bodyHash, Recording recording) {
+        if (writer == null) {
+            throw new IllegalStateException("Cassette " + this.path + " is not open for recording");
+        }
+        try {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(compressed))) {
+                recording.writeTo(out);
+            }
+            byte[] key = key(method, path, bodyHash).getBytes(StandardCharsets.UTF_8);
+            ByteBuffer entry = ByteBuffer.allocate(2 * Integer.BYTES + key.length + compressed.size())
+                .putInt(key.length).put(key)
+                .putInt(compressed.size()).put(compressed.toByteArray())
+                .flip();
+            while (entry.hasRemaining()) {
+                writer.write(entry);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write to cassette " + this.path, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    private Map<String, ByteBuffer> payloads() {
+        Map<String, ByteBuffer> result = payloads;
+        if (result == null) {
+            synchronized (this) {
+                result = payloads;
+                if (result == null) {
+                    result = load();
+                    payloads = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    // Maps the file and indexes the keys; payloads stay compressed in the mapping
+    private Map<String, ByteBuffer> load() {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Cassette larger than 2 GB");
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (mapped.remaining() < Integer.BYTES || mapped.getInt() != MAGIC) {
+                throw new IOException("Not a cassette file");
+            }
+            Map<String, ByteBuffer> index = new HashMap<>();
+            while (mapped.hasRemaining()) {
+                byte[] key = new byte[mapped.getInt()];
+                mapped.get(key);
+                int length = mapped.getInt();
+                index.put(new String(key, StandardCharsets.UTF_8), mapped.slice(mapped.position(), length));
+                mapped.position(mapped.position() + length);
+            }
+            return index;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new UncheckedIOException("Truncated cassette " + path, new IOException(e));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read cassette " + path, e);
+        }
+    }
+
+    private Recording inflate(ByteBuffer payload) {
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteBufferInputStream(payload)))) {
+            return Recording.readFrom(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt recording in cassette " + path, e);
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.kulebiakin.api.cassette;
+
+import com.kulebiakin.api.core.RequestKeys;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * RestAssured filter that records responses to a {@link Cassette} or replays them from it. Keys use the path and
+ * query only, so a cassette recorded against one backend replays against any base URI.
+ */
+public class CassetteFilter implements OrderedFilter {
+
+    private final Cassette cassette;
+
+    public CassetteFilter(Cassette cassette) {
+        this.cassette = cassette;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext context) {
+        String method = requestSpec.getMethod();
+        String path = RequestKeys.pathAndQuery(requestSpec.getURI());
+        String bodyHash = Cassette.bodyHash(bodyOf(requestSpec));
+
+        if (cassette.getMode() == CassetteMode.REPLAY) {
+            return cassette.find(method, path, bodyHash).toResponse();
+        }
+        Response response = context.next(requestSpec, responseSpec);
+        if (cassette.getMode() == CassetteMode.RECORD) {
+            cassette.record(method, path, bodyHash, Recording.of(response));
+        }
+        return response;
+    }
+
+    // Runs before the other filters except timing and the response cache, so a replayed request never reaches the pool
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE + 2;
+    }
+
+    private static byte[] bodyOf(FilterableRequestSpecification requestSpec) {
+        Object body = requestSpec.getBody();
+        if (body == null) {
+            return null;
+        }
+        return body instanceof byte[] ? (byte[]) body : body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,14 @@
+package com.kulebiakin.api.cassette;
+
+import java.nio.file.Path;
+
+/**
+ * Thrown in {@link CassetteMode#REPLAY} for a request that was never recorded.
+ */
+public class CassetteMissException extends RuntimeException {
+
+    public CassetteMissException(String method, String path, String bodyHash, Path cassette) {
+        super("No recording for " + method + " " + path + (bodyHash.isEmpty() ? "" : " with body sha256 " + bodyHash)
+            + " in cassette " + cassette + "; record it with -Dapi.cassette.mode=record");
+    }
+}
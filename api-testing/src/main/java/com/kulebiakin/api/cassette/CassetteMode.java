@@ -0,0 +1,10 @@
+package com.kulebiakin.api.cassette;
+
+public enum CassetteMode {
+    // Requests go to the backend, nothing is recorded
+    OFF,
+    // Requests go to the backend and every response is appended to the cassette
+    RECORD,
+    // Responses are served from the cassette, the backend is never contacted
+    REPLAY
+}
@@ -0,0 +1,88 @@
+package com.kulebiakin.api.cassette;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One recorded response: status, headers and the exact body bytes.
+ */
+@Getter
+public final class Recording {
+    private final int statusCode;
+    private final String statusLine;
+    private final Headers headers;
+    private final byte[] body;
+    // ResponseBuilder.build() creates a new RestAssuredConfig per response, which costs far more than the
+    // lookup; replays clone this prototype instead, which keeps its config
+    @Getter(AccessLevel.NONE)
+    private volatile Response prototype;
+
+    public Recording(int statusCode, String statusLine, Headers headers, byte[] body) {
+        this.statusCode = statusCode;
+        this.statusLine = statusLine;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    public static Recording of(Response response) {
+        return new Recording(response.getStatusCode(), response.getStatusLine(), response.getHeaders(),
+            response.asByteArray());
+    }
+
+    public Response toResponse() {
+        Response response = prototype;
+        if (response == null) {
+            response = build();
+            prototype = response;
+        }
+        return new ResponseBuilder().clone(response).build();
+    }
+
+    private Response build() {
+        ResponseBuilder builder = new ResponseBuilder()
+            .setStatusCode(statusCode)
+            .setStatusLine(statusLine)
+            .setHeaders(headers)
+            .setBody(body);
+        String contentType = headers.getValue("Content-Type");
+        if (contentType != null) {
+            builder.setContentType(contentType);
+        }
+        return builder.build();
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(statusCode);
+        out.writeUTF(statusLine == null ? "" : statusLine);
+        out.writeInt(headers.size());
+        for (Header header : headers) {
+            out.writeUTF(header.getName());
+            out.writeUTF(header.getValue());
+        }
+        out.writeInt(body.length);
+        out.write(body);
+    }
+
+    static Recording readFrom(DataInputStream in) throws IOException {
+        int statusCode = in.readInt();
+        String statusLine = in.readUTF();
+        int headerCount = in.readInt();
+        List<Header> headers = new ArrayList<>(headerCount);
+        for (int i = 0; i < headerCount; i++) {
+            headers.add(new Header(in.readUTF(), in.readUTF()));
+        }
+        byte[] body = new byte[in.readInt()];
+        in.readFully(body);
+        return new Recording(statusCode, statusLine, new Headers(headers), body);
+    }
+}
@@ -0,0 +1,187 @@
+package com.kulebiakin.api.core;
+
+import com.kulebiakin.api.cache.ResponseCache;
+import com.kulebiakin.api.cache.ResponseCacheFilter;
+import com.kulebiakin.api.cassette.Cassette;
+import com.kulebiakin.api.cassette.CassetteFilter;
+import com.kulebiakin.api.cassette.CassetteMode;
+import com.kulebiakin.api.metrics.CallTiming;
+import com.kulebiakin.api.metrics.HttpTimingFilter;
+import com.kulebiakin.api.metrics.HttpTimings;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import lombok.Getter;
+import org.apache.http.HttpHost;
+import org.apache.http.client.params.CookiePolicy;
+import org.apache.http.client.params.HttpClientParams;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared HTTP plumbing of the service layer: one prebuilt, immutable {@link RequestSpecification} backed by a
+ * single keep-alive HTTP client with a pooled connection manager. Services merge the spec into every request
+ * instead of configuring a new client each time.
+ * <p>
+ * Thread-safe: the pool leases each connection to one request at a time, the filters are thread-safe, and the
+ * state of an in-flight call (its {@link CallTiming}) is bound to the calling thread. Services built on the spec
+ * hold nothing else, so one service instance can be shared by concurrently running tests.
+ */
+@SuppressWarnings("deprecation") // RestAssured still requires the HttpClient 4.x AbstractHttpClient API
+public final class ApiClient implements AutoCloseable {
+
+    private final CountingConnectionManager connectionManager;
+    private final Cassette cassette;
+    private final ResponseCache responseCache;
+    private final LongAdder requests = new LongAdder();
+    @Getter
+    private final RequestSpecification spec;
+
+    private ApiClient(ApiClientConfig config) {
+        this.cassette = openCassette(config);
+        this.responseCache = config.getResponseCache() == null ? null : new ResponseCache(config.getResponseCache());
+        this.connectionManager = new CountingConnectionManager();
+        connectionManager.setMaxTotal(config.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(config.getMaxConnectionsPerRoute());
+
+        HttpParams params = new BasicHttpParams();
+        HttpConnectionParams.setConnectionTimeout(params, config.getConnectTimeoutMillis());
+        HttpConnectionParams.setSoTimeout(params, config.getSocketTimeoutMillis());
+        // Servers may drop idle keep-alive connections well before the pool's 30 s TTL. The retry handler does not
+        // resend a POST or PUT whose body went out, so the stale check stays on: it costs up to 1 ms per reuse and
+        // keeps those calls off connections the server has already closed
+        HttpConnectionParams.setStaleCheckingEnabled(params, true);
+        // The client is shared by every thread; keeping no cookies means a cookie set in one test's response
+        // can never ride along on another thread's request
+        HttpClientParams.setCookiePolicy(params, CookiePolicy.IGNORE_COOKIES);
+        DefaultHttpClient httpClient = new DefaultHttpClient(connectionManager, params);
+
+        HttpClientConfig httpClientConfig = HttpClientConfig.httpClientConfig()
+            .httpClientFactory(() -> httpClient)
+            .reuseHttpClientInstance();
+        RestAssuredConfig restAssuredConfig = RestAssuredConfig.config().httpClient(httpClientConfig);
+
+        RequestSpecBuilder builder = new RequestSpecBuilder();
+        HttpTimings timings = config.getTimings();
+        if (timings != null) {
+            // Response interceptors run once the status line and headers are parsed, before the body is read
+            httpClient.addResponseInterceptor((response, context) -> CallTiming.firstByteReceived());
+            builder.addFilter(new HttpTimingFilter(timings));
+        }
+        if (responseCache != null) {
+            builder.addFilter(new ResponseCacheFilter(responseCache));
+        }
+        if (cassette != null) {
+            builder.addFilter(new CassetteFilter(cassette));
+        }
+        this.spec = builder
+            .setBaseUri(config.getBaseUri())
+            .setContentType(ContentType.JSON)
+            .setConfig(restAssuredConfig)
+            .addFilter((requestSpec, responseSpec, context) -> {
+                requests.increment();
+                Response response = context.next(requestSpec, responseSpec);
+                // Buffering the body releases the connection back to the pool even when the caller
+                // only looks at the status code; an unread entity would keep it leased
+                response.asByteArray();
+                return response;
+            })
+            .build();
+    }
+
+    public static ApiClient create(ApiClientConfig config) {
+        return new ApiClient(config);
+    }
+
+    // Client configured from ApiConfig, shared by the services' default constructors
+    public static ApiClient getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    public ConnectionStats getConnectionStats() {
+        PoolStats pool = connectionManager.getTotalStats();
+        return new ConnectionStats(requests.sum(), connectionManager.opened.sum(),
+            pool.getLeased(), pool.getAvailable(), pool.getMax());
+    }
+
+    // Empty unless ApiClientConfig.responseCache is set
+    public Optional<ResponseCache> getResponseCache() {
+        return Optional.ofNullable(responseCache);
+    }
+
+    @Override
+    public void close() {
+        connectionManager.shutdown();
+        if (cassette != null) {
+            try {
+                cassette.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot close cassette " + cassette.getPath(), e);
+            }
+        }
+    }
+
+    private static Cassette openCassette(ApiClientConfig config) {
+        if (config.getCassetteMode() == CassetteMode.OFF) {
+            return null;
+        }
+        if (config.getCassettePath() == null) {
+            throw new IllegalArgumentException("Cassette mode " + config.getCassetteMode().name().toLowerCase(Locale.ROOT)
+                + " needs a cassette file, set -Dapi.cassette=<file>");
+        }
+        try {
+            return Cassette.open(Path.of(config.getCassettePath()), config.getCassetteMode());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open cassette " + config.getCassettePath(), e);
+        }
+    }
+
+    private static final class DefaultHolder {
+        private static final ApiClient INSTANCE = create(ApiClientConfig.builder().build());
+    }
+
+    // Counts physical connections opened by the pool, as opposed to requests served
+    private static final class CountingConnectionManager extends PoolingClientConnectionManager {
+        private final LongAdder opened = new LongAdder();
+
+        CountingConnectionManager() {
+            super(SchemeRegistryFactory.createDefault(), 30, TimeUnit.SECONDS);
+        }
+
+        @Override
+        protected ClientConnectionOperator createConnectionOperator(SchemeRegistry registry) {
+            return new DefaultClientConnectionOperator(registry) {
+                @Override
+                public void openConnection(OperatedClientConnection connection, HttpHost target, InetAddress local,
+                                           HttpContext context, HttpParams params) throws IOException {
+                    opened.increment();
+                    long start = System.nanoTime();
+                    super.openConnection(connection, target, local, context, params);
+                    CallTiming.connected(System.nanoTime() - start);
+                }
+            };
+        }
+    }
+}
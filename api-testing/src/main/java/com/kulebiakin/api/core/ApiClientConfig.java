@@ -0,0 +1,33 @@
+package com.kulebiakin.api.core;
+
+import com.kulebiakin.api.cache.ResponseCacheConfig;
+import com.kulebiakin.api.cassette.CassetteMode;
+import com.kulebiakin.api.metrics.HttpTimings;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class ApiClientConfig {
+    @Builder.Default
+    String baseUri = ApiConfig.BASE_URL;
+    @Builder.Default
+    int maxConnections = ApiConfig.MAX_CONNECTIONS;
+    @Builder.Default
+    int maxConnectionsPerRoute = ApiConfig.MAX_CONNECTIONS_PER_ROUTE;
+    @Builder.Default
+    int connectTimeoutMillis = ApiConfig.CONNECT_TIMEOUT_MILLIS;
+    @Builder.Default
+    int socketTimeoutMillis = ApiConfig.SOCKET_TIMEOUT_MILLIS;
+    // GET response cache, off when null
+    @Builder.Default
+    ResponseCacheConfig responseCache = ApiConfig.CACHE_ENABLED ? ResponseCacheConfig.builder().build() : null;
+    // Record/replay file, required unless cassetteMode is OFF
+    @Builder.Default
+    String cassettePath = ApiConfig.CASSETTE_PATH;
+    @Builder.Default
+    CassetteMode cassetteMode = ApiConfig.CASSETTE_MODE;
+    // Registry receiving per-call timings, off when null
+    @Builder.Default
+    HttpTimings timings = ApiConfig.TIMINGS_ENABLED ? HttpTimings.global() : null;
+}
@@ -1,13 +1,50 @@
 package com.kulebiakin.api.core;
 
+import com.kulebiakin.api.cassette.CassetteMode;
+import com.kulebiakin.api.fake.FakeApiServer;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.Locale;
+
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ApiConfig {
-    public static final String BASE_URL = "https://jsonplaceholder.typicode.com";
+    public static final String LIVE_BASE_URL = "https://jsonplaceholder.typicode.com";
+    // -Dapi.backend=fake runs the suites against the in-process FakeApiServer,
+    // -Dapi.baseUrl=... against another deployment
+    public static final String BASE_URL = resolveBaseUrl();
     public static final String POSTS_ENDPOINT = "/posts";
     public static final String USERS_ENDPOINT = "/users";
 
     public static final String CONTENT_TYPE_JSON = "application/json";
+
+    // HTTP connection pool, see ApiClient
+    public static final int MAX_CONNECTIONS = Integer.getInteger("api.pool.maxTotal", 64);
+    public static final int MAX_CONNECTIONS_PER_ROUTE = Integer.getInteger("api.pool.maxPerRoute", 64);
+    public static final int CONNECT_TIMEOUT_MILLIS = Integer.getInteger("api.connectTimeoutMillis", 10_000);
+    public static final int SOCKET_TIMEOUT_MILLIS = Integer.getInteger("api.socketTimeoutMillis", 30_000);
+
+    // -Dapi.cache=true puts a ResponseCacheFilter in front of the GET calls
+    public static final boolean CACHE_ENABLED = Boolean.getBoolean("api.cache");
+
+    // Record/replay, see CassetteFilter. No default file: a path relative to one module's sources would resolve
+    // against whatever directory the JVM runs in, so -Dapi.cassette is required unless the mode is off
+    public static final String CASSETTE_PATH = System.getProperty("api.cassette");
+    public static final CassetteMode CASSETTE_MODE =
+        CassetteMode.valueOf(System.getProperty("api.cassette.mode", "off").toUpperCase(Locale.ROOT));
+
+    // Paged reads, see PrefetchingPageIterator: items per page and pages fetched ahead of the one being consumed
+    public static final int PAGE_SIZE = Integer.getInteger("api.page.size", 100);
+    public static final int PAGE_PREFETCH = Integer.getInteger("api.page.prefetch", 2);
+
+    // Per-endpoint call timings, see HttpTimings; -Dapi.metrics.prometheus=<file> writes them when the JVM exits
+    public static final boolean TIMINGS_ENABLED = Boolean.parseBoolean(System.getProperty("api.metrics", "true"));
+    public static final String TIMINGS_PROMETHEUS_PATH = System.getProperty("api.metrics.prometheus");
+
+    private static String resolveBaseUrl() {
+        if ("fake".equals(System.getProperty("api.backend"))) {
+            return FakeApiServer.shared().getBaseUrl();
+        }
+        return System.getProperty("api.baseUrl", LIVE_BASE_URL);
+    }
 }
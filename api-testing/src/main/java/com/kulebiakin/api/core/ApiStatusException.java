@@ -0,0 +1,18 @@
+package com.kulebiakin.api.core;
+
+import lombok.Getter;
+
+/**
+ * Completes the futures of the async services when the API answers with a non-2xx status.
+ */
+@Getter
+public class ApiStatusException extends RuntimeException {
+    private final int statusCode;
+    private final String body;
+
+    public ApiStatusException(String method, String uri, int statusCode, String body) {
+        super(method + " " + uri + " returned " + statusCode);
+        this.statusCode = statusCode;
+        this.body = body;
+    }
+}
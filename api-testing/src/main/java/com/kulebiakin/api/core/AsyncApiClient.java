@@ -0,0 +1,153 @@
+package com.kulebiakin.api.core;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
+
+/**
+ * Non-blocking counterpart of {@link ApiClient} on {@link HttpClient}. Requests are multiplexed over the client's
+ * own connection pool and completions run on a virtual-thread executor when the JVM supports it, so a fan-out of
+ * hundreds of calls does not hold a platform thread per in-flight request.
+ */
+public final class AsyncApiClient implements AutoCloseable {
+
+    private final String baseUri;
+    private final Duration requestTimeout;
+    private final ExecutorService executor;
+    private final HttpClient httpClient;
+    private final ObjectMapper mapper = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private AsyncApiClient(ApiClientConfig config) {
+        this.baseUri = config.getBaseUri();
+        this.requestTimeout = Duration.ofMillis(config.getSocketTimeoutMillis());
+        this.executor = VirtualThreads.newExecutor("async-api-client");
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(config.getConnectTimeoutMillis()))
+            .executor(executor)
+            .build();
+    }
+
+    public static AsyncApiClient create(ApiClientConfig config) {
+        return new AsyncApiClient(config);
+    }
+
+    public static AsyncApiClient getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    public <T> CompletableFuture<T> get(String path, TypeReference<T> type) {
+        return send(request(path).GET(), type);
+    }
+
+    public <T> CompletableFuture<T> post(String path, Object body, TypeReference<T> type) {
+        return send(request(path).POST(bodyOf(body)), type);
+    }
+
+    public <T> CompletableFuture<T> put(String path, Object body, TypeReference<T> type) {
+        return send(request(path).PUT(bodyOf(body)), type);
+    }
+
+    public CompletableFuture<Void> delete(String path) {
+        return send(request(path).DELETE(), null);
+    }
+
+    /**
+     * GETs a JSON array and decodes it lazily: the future completes once the headers arrive and each element is
+     * read from the connection as the stream is consumed. Close the stream when stopping early.
+     */
+    public <T> CompletableFuture<Stream<T>> stream(String path, Class<T> elementType) {
+        HttpRequest request = request(path).GET().build();
+        ObjectReader reader = mapper.readerFor(elementType);
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+            .thenApply(response -> {
+                try {
+                    checkStatus(request, response.statusCode(), response.body());
+                    return JsonArrayIterator.stream(response.body(), reader);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Cannot decode response as array of " + elementType.getName(), e);
+                }
+            });
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUri + path))
+            .timeout(requestTimeout)
+            .header("Content-Type", ApiConfig.CONTENT_TYPE_JSON)
+            .header("Accept", ApiConfig.CONTENT_TYPE_JSON);
+    }
+
+    private HttpRequest.BodyPublisher bodyOf(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize request body", e);
+        }
+    }
+
+    // A null type discards the body, used for DELETE
+    private <T> CompletableFuture<T> send(HttpRequest.Builder builder, TypeReference<T> type) {
+        HttpRequest request = builder.build();
+        JavaType javaType = type == null ? null : mapper.getTypeFactory().constructType(type);
+        CompletableFuture<HttpResponse<byte[]>> exchange =
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        CompletableFuture<T> result = exchange.thenApply(response -> {
+            int status = response.statusCode();
+            if (status < 200 || status >= 300) {
+                throw new ApiStatusException(request.method(), request.uri().toString(), status,
+                    new String(response.body(), StandardCharsets.UTF_8));
+            }
+            return javaType == null ? null : decode(response.body(), javaType);
+        });
+        // Cancelling a dependent future does not reach its source; abort the exchange so a caller that gives up
+        // on the result does not leave the request running
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private static void checkStatus(HttpRequest request, int status, InputStream body) throws IOException {
+        if (status < 200 || status >= 300) {
+            try (body) {
+                throw new ApiStatusException(request.method(), request.uri().toString(), status,
+                    new String(body.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    private <T> T decode(byte[] body, JavaType type) {
+        try {
+            return mapper.readValue(body, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot decode response as " + type, e);
+        }
+    }
+
+    private static final class DefaultHolder {
+        private static final AsyncApiClient INSTANCE = create(ApiClientConfig.builder().build());
+    }
+}
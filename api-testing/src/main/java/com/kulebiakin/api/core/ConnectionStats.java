@@ -0,0 +1,17 @@
+package com.kulebiakin.api.core;
+
+import lombok.Value;
+
+@Value
+public class ConnectionStats {
+    long requests;
+    long connectionsOpened;
+    int leased;
+    int available;
+    int max;
+
+    // Share of requests served over an already open connection
+    public double getReuseRatio() {
+        return requests == 0 ? 0 : Math.max(0, requests - connectionsOpened) / (double) requests;
+    }
+}
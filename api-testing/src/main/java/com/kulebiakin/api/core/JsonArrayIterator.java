@@ -0,0 +1,93 @@
+package com.kulebiakin.api.core;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Decodes a top-level JSON array one element at a time with Jackson's {@link JsonParser}, binding each element
+ * straight to its type. Only the current element and the parser's read buffer are held in memory, however long
+ * the array is. The input is closed after the last element, or by {@link #close()} when iteration stops early.
+ */
+public final class JsonArrayIterator<T> implements Iterator<T>, Closeable {
+
+    private final JsonParser parser;
+    private final ObjectReader reader;
+    private JsonToken next;
+
+    public JsonArrayIterator(InputStream in, ObjectReader reader) throws IOException {
+        this.reader = reader;
+        this.parser = reader.createParser(in);
+        try {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected a JSON array but found " + parser.currentToken());
+            }
+            advance();
+        } catch (IOException e) {
+            parser.close();
+            throw e;
+        }
+    }
+
+    public static <T> Stream<T> stream(InputStream in, ObjectReader reader) throws IOException {
+        JsonArrayIterator<T> iterator = new JsonArrayIterator<>(in, reader);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(iterator::closeQuietly);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != JsonToken.END_ARRAY && !parser.isClosed();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            T value = reader.readValue(parser);
+            advance();
+            return value;
+        } catch (IOException e) {
+            closeQuietly();
+            throw new UncheckedIOException("Cannot decode array element at " + parser.currentLocation(), e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    private void advance() throws IOException {
+        next = parser.nextToken();
+        if (next == null) {
+            throw new JsonParseException(parser, "Unexpected end of input inside a JSON array");
+        }
+        if (next == JsonToken.END_ARRAY) {
+            parser.close();
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            parser.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
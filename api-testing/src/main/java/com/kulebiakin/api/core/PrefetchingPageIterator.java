@@ -0,0 +1,122 @@
+package com.kulebiakin.api.core;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Walks a collection served in pages of {@code pageSize} items, keeping up to {@code prefetchDepth} following
+ * pages in flight while the current one is consumed. Only the current page and the prefetch window are held in
+ * memory, however large the collection is. A page shorter than the page size ends the iteration and cancels the
+ * requests issued past it; {@link #close()} does the same when iteration stops early. Not thread-safe.
+ */
+public final class PrefetchingPageIterator<T> implements Iterator<T>, AutoCloseable {
+
+    /**
+     * Fetches items [start, start + limit) of the collection, fewer or none past its end.
+     */
+    @FunctionalInterface
+    public interface PageFetcher<T> {
+        CompletableFuture<List<T>> fetch(int start, int limit);
+    }
+
+    private final PageFetcher<T> fetcher;
+    private final int pageSize;
+    private final int prefetchDepth;
+    private final Deque<CompletableFuture<List<T>>> pending = new ArrayDeque<>();
+    private Iterator<T> current = Collections.emptyIterator();
+    private int nextStart;
+    // Set once a short page is taken or the iterator is closed; no page is fetched after that
+    private boolean done;
+
+    public PrefetchingPageIterator(PageFetcher<T> fetcher, int pageSize, int prefetchDepth) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be positive: " + pageSize);
+        }
+        if (prefetchDepth < 0) {
+            throw new IllegalArgumentException("prefetchDepth must not be negative: " + prefetchDepth);
+        }
+        this.fetcher = fetcher;
+        this.pageSize = pageSize;
+        this.prefetchDepth = prefetchDepth;
+    }
+
+    public static <T> Stream<T> stream(PageFetcher<T> fetcher, int pageSize, int prefetchDepth) {
+        PrefetchingPageIterator<T> iterator = new PrefetchingPageIterator<>(fetcher, pageSize, prefetchDepth);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(iterator::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (done) {
+                return false;
+            }
+            nextPage();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    // Pages requested but not yet taken, at most prefetchDepth while a page is being consumed
+    public int getPendingPages() {
+        return pending.size();
+    }
+
+    @Override
+    public void close() {
+        done = true;
+        current = Collections.emptyIterator();
+        cancelPending();
+    }
+
+    private void nextPage() {
+        if (pending.isEmpty()) {
+            request();
+        }
+        CompletableFuture<List<T>> page = pending.poll();
+        // Top the window up before waiting, so the following pages load while this one arrives
+        while (pending.size() < prefetchDepth) {
+            request();
+        }
+        List<T> items;
+        try {
+            items = page.join();
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+        if (items.size() < pageSize) {
+            done = true;
+            cancelPending();
+        }
+        current = items.iterator();
+    }
+
+    private void request() {
+        pending.add(fetcher.fetch(nextStart, pageSize));
+        nextStart += pageSize;
+    }
+
+    private void cancelPending() {
+        pending.forEach(page -> page.cancel(false));
+        pending.clear();
+    }
+}
@@ -0,0 +1,19 @@
+package com.kulebiakin.api.core;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.net.URI;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RequestKeys {
+
+    /**
+     * Raw path and query of a request URI, e.g. {@code /posts?userId=1}: the key under which the response cache and
+     * the cassette look up a request, so both agree on which requests are the same.
+     */
+    public static String pathAndQuery(String uri) {
+        URI parsed = URI.create(uri);
+        return parsed.getRawQuery() == null ? parsed.getRawPath() : parsed.getRawPath() + "?" + parsed.getRawQuery();
+    }
+}
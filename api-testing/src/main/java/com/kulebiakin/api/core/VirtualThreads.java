@@ -0,0 +1,32 @@
+package com.kulebiakin.api.core;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VirtualThreads {
+
+    /**
+     * One virtual thread per task when the JVM supports them, otherwise a cached pool of daemon threads named
+     * {@code fallbackName}. {@code Executors.newVirtualThreadPerTaskExecutor()} is looked up reflectively so the
+     * module still targets Java 17.
+     */
+    public static ExecutorService newExecutor(String fallbackName) {
+        try {
+            return (ExecutorService) MethodHandles.publicLookup()
+                .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class))
+                .invoke();
+        } catch (Throwable e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, fallbackName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.kulebiakin.api.domain.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Immutable, compact counterpart of {@link Post} for holding large numbers of posts: ids are primitive and there
+ * is no per-field boxing. Decodes from the same JSON as {@code Post}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record PostRecord(int id, int userId, String title, String body) {
+
+    // A post not saved yet has no id; like JSON without the field it becomes 0, which the API never assigns
+    public static PostRecord from(Post post) {
+        return new PostRecord(orZero(post.getId()), orZero(post.getUserId()), post.getTitle(), post.getBody());
+    }
+
+    static int orZero(Integer value) {
+        return value == null ? 0 : value;
+    }
+}
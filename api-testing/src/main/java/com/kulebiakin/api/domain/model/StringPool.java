@@ -0,0 +1,27 @@
+package com.kulebiakin.api.domain.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Deduplicates equal strings while decoding, so a million users living in the same few cities share one
+ * {@code String} per city. Every distinct value stays referenced by the pool, so it only pays off for
+ * low-cardinality fields. Pass it to a reader with
+ * {@code mapper.readerFor(UserRecord.class).withAttribute(StringPool.class, pool)}; without it nothing is pooled.
+ */
+public final class StringPool {
+
+    private final ConcurrentMap<String, String> strings = new ConcurrentHashMap<>();
+
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String pooled = strings.putIfAbsent(value, value);
+        return pooled != null ? pooled : value;
+    }
+
+    public int size() {
+        return strings.size();
+    }
+}
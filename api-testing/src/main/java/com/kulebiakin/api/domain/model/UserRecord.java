@@ -0,0 +1,70 @@
+package com.kulebiakin.api.domain.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import lombok.Builder;
+
+/**
+ * Immutable, compact counterpart of {@link User} for holding large numbers of users. The nested address, geo and
+ * company objects are flattened into the record, the id is an {@code int} and the coordinates are {@code double}s
+ * instead of strings. Decodes from the regular user JSON; cities and company names are deduplicated when the
+ * reader carries a {@link StringPool}.
+ */
+@Builder
+@JsonDeserialize(using = UserRecordDeserializer.class)
+public record UserRecord(
+    int id,
+    String name,
+    String username,
+    String email,
+    String street,
+    String suite,
+    String city,
+    String zipcode,
+    double lat,
+    double lng,
+    String phone,
+    String website,
+    String companyName,
+    String catchPhrase,
+    String bs) {
+
+    // Missing ids and coordinates become 0, as when decoding JSON without them
+    public static UserRecord from(User user) {
+        UserRecordBuilder builder = builder()
+            .id(PostRecord.orZero(user.getId()))
+            .name(user.getName())
+            .username(user.getUsername())
+            .email(user.getEmail())
+            .phone(user.getPhone())
+            .website(user.getWebsite());
+        User.Address address = user.getAddress();
+        if (address != null) {
+            builder.street(address.getStreet())
+                .suite(address.getSuite())
+                .city(address.getCity())
+                .zipcode(address.getZipcode());
+            if (address.getGeo() != null) {
+                builder.lat(coordinate(address.getGeo().getLat()))
+                    .lng(coordinate(address.getGeo().getLng()));
+            }
+        }
+        User.Company company = user.getCompany();
+        if (company != null) {
+            builder.companyName(company.getName())
+                .catchPhrase(company.getCatchPhrase())
+                .bs(company.getBs());
+        }
+        return builder.build();
+    }
+
+    private static double coordinate(String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Coordinate is not a number: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.kulebiakin.api.domain.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Streams the nested user JSON straight into a flat {@link UserRecord}, without materializing the address, geo
+ * and company objects. Unknown fields are skipped. Only the city and company name go through the
+ * {@link StringPool}: few distinct values are shared by many users, while streets, suites, zip codes and company
+ * slogans are mostly unique, and pooling those would only keep them alive in the pool's map.
+ */
+class UserRecordDeserializer extends StdDeserializer<UserRecord> {
+
+    UserRecordDeserializer() {
+        super(UserRecord.class);
+    }
+
+    @Override
+    public UserRecord deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        StringPool pool = (StringPool) ctxt.getAttribute(StringPool.class);
+        UserRecord.UserRecordBuilder user = UserRecord.builder();
+        expectObject(p, ctxt);
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            switch (field) {
+                case "id":
+                    user.id(p.getValueAsInt());
+                    break;
+                case "name":
+                    user.name(p.getValueAsString());
+                    break;
+                case "username":
+                    user.username(p.getValueAsString());
+                    break;
+                case "email":
+                    user.email(p.getValueAsString());
+                    break;
+                case "phone":
+                    user.phone(p.getValueAsString());
+                    break;
+                case "website":
+                    user.website(p.getValueAsString());
+                    break;
+                case "address":
+                    if (value == JsonToken.START_OBJECT) {
+                        readAddress(p, user, pool);
+                    } else {
+                        p.skipChildren();
+                    }
+                    break;
+                case "company":
+                    if (value == JsonToken.START_OBJECT) {
+                        readCompany(p, user, pool);
+                    } else {
+                        p.skipChildren();
+                    }
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+        return user.build();
+    }
+
+    private static void readAddress(JsonParser p, UserRecord.UserRecordBuilder user, StringPool pool) throws IOException {
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            switch (field) {
+                case "street":
+                    user.street(p.getValueAsString());
+                    break;
+                case "suite":
+                    user.suite(p.getValueAsString());
+                    break;
+                case "city":
+                    user.city(pooled(pool, p.getValueAsString()));
+                    break;
+                case "zipcode":
+                    user.zipcode(p.getValueAsString());
+                    break;
+                case "geo":
+                    if (value == JsonToken.START_OBJECT) {
+                        readGeo(p, user);
+                    } else {
+                        p.skipChildren();
+                    }
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+    }
+
+    // Coordinates come as strings ("-37.3159"); getValueAsDouble parses them as well as plain numbers
+    private static void readGeo(JsonParser p, UserRecord.UserRecordBuilder user) throws IOException {
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "lat":
+                    user.lat(p.getValueAsDouble());
+                    break;
+                case "lng":
+                    user.lng(p.getValueAsDouble());
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+    }
+
+    private static void readCompany(JsonParser p, UserRecord.UserRecordBuilder user, StringPool pool) throws IOException {
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "name":
+                    user.companyName(pooled(pool, p.getValueAsString()));
+                    break;
+                case "catchPhrase":
+                    user.catchPhrase(p.getValueAsString());
+                    break;
+                case "bs":
+                    user.bs(p.getValueAsString());
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+    }
+
+    private static void expectObject(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            ctxt.reportWrongTokenException(UserRecord.class, JsonToken.START_OBJECT, "Expected a user object");
+        }
+    }
+
+    private static String pooled(StringPool pool, String value) {
+        return pool == null ? value : pool.intern(value);
+    }
+}
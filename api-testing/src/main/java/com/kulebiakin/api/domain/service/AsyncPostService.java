@@ -0,0 +1,76 @@
+package com.kulebiakin.api.domain.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.kulebiakin.api.core.ApiConfig;
+import com.kulebiakin.api.core.AsyncApiClient;
+import com.kulebiakin.api.core.PrefetchingPageIterator;
+import com.kulebiakin.api.domain.model.Post;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * Non-blocking variant of {@link PostService}. Futures complete exceptionally with
+ * {@link com.kulebiakin.api.core.ApiStatusException} on a non-2xx status.
+ */
+public class AsyncPostService {
+
+    private static final TypeReference<Post> POST = new TypeReference<>() {
+    };
+    private static final TypeReference<List<Post>> POSTS = new TypeReference<>() {
+    };
+
+    private final AsyncApiClient client;
+
+    public AsyncPostService() {
+        this(AsyncApiClient.getDefault());
+    }
+
+    public AsyncPostService(AsyncApiClient client) {
+        this.client = client;
+    }
+
+    public CompletableFuture<List<Post>> getAllPosts() {
+        return client.get(ApiConfig.POSTS_ENDPOINT, POSTS);
+    }
+
+    // Decodes the posts one by one as the stream is consumed, in constant memory
+    public CompletableFuture<Stream<Post>> streamAllPosts() {
+        return client.stream(ApiConfig.POSTS_ENDPOINT, Post.class);
+    }
+
+    // Posts [start, start + limit), fewer or none past the end of the collection
+    public CompletableFuture<List<Post>> getPostsPage(int start, int limit) {
+        return client.get(ApiConfig.POSTS_ENDPOINT + "?_start=" + start + "&_limit=" + limit, POSTS);
+    }
+
+    /**
+     * Walks all posts page by page with {@link ApiConfig#PAGE_SIZE} and {@link ApiConfig#PAGE_PREFETCH}, for
+     * collections too large for a single response. Close the stream when stopping early.
+     */
+    public Stream<Post> streamAllPostsPaged() {
+        return streamAllPostsPaged(ApiConfig.PAGE_SIZE, ApiConfig.PAGE_PREFETCH);
+    }
+
+    // Memory stays bounded by the current page plus prefetchDepth pages in flight
+    public Stream<Post> streamAllPostsPaged(int pageSize, int prefetchDepth) {
+        return PrefetchingPageIterator.stream(this::getPostsPage, pageSize, prefetchDepth);
+    }
+
+    public CompletableFuture<Post> getPostById(Object id) {
+        return client.get(ApiConfig.POSTS_ENDPOINT + "/" + id, POST);
+    }
+
+    public CompletableFuture<Post> createPost(Post post) {
+        return client.post(ApiConfig.POSTS_ENDPOINT, post, POST);
+    }
+
+    public CompletableFuture<Post> updatePost(int id, Post post) {
+        return client.put(ApiConfig.POSTS_ENDPOINT + "/" + id, post, POST);
+    }
+
+    public CompletableFuture<Void> deletePost(int id) {
+        return client.delete(ApiConfig.POSTS_ENDPOINT + "/" + id);
+    }
+}
@@ -0,0 +1,56 @@
+package com.kulebiakin.api.domain.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.kulebiakin.api.core.ApiConfig;
+import com.kulebiakin.api.core.AsyncApiClient;
+import com.kulebiakin.api.domain.model.Post;
+import com.kulebiakin.api.domain.model.User;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * Non-blocking variant of {@link UserService}. Futures complete exceptionally with
+ * {@link com.kulebiakin.api.core.ApiStatusException} on a non-2xx status.
+ */
+public class AsyncUserService {
+
+    private static final TypeReference<User> USER = new TypeReference<>() {
+    };
+    private static final TypeReference<List<User>> USERS = new TypeReference<>() {
+    };
+    private static final TypeReference<List<Post>> POSTS = new TypeReference<>() {
+    };
+
+    private final AsyncApiClient client;
+
+    public AsyncUserService() {
+        this(AsyncApiClient.getDefault());
+    }
+
+    public AsyncUserService(AsyncApiClient client) {
+        this.client = client;
+    }
+
+    public CompletableFuture<List<User>> getAllUsers() {
+        return client.get(ApiConfig.USERS_ENDPOINT, USERS);
+    }
+
+    // Decodes the users one by one as the stream is consumed, in constant memory
+    public CompletableFuture<Stream<User>> streamAllUsers() {
+        return client.stream(ApiConfig.USERS_ENDPOINT, User.class);
+    }
+
+    public CompletableFuture<User> getUserById(Object id) {
+        return client.get(ApiConfig.USERS_ENDPOINT + "/" + id, USER);
+    }
+
+    public CompletableFuture<List<Post>> getUserPosts(int userId) {
+        return client.get(ApiConfig.USERS_ENDPOINT + "/" + userId + "/posts", POSTS);
+    }
+
+    public CompletableFuture<Stream<Post>> streamUserPosts(int userId) {
+        return client.stream(ApiConfig.USERS_ENDPOINT + "/" + userId + "/posts", Post.class);
+    }
+}
@@ -1,34 +1,52 @@
 package com.kulebiakin.api.domain.service;
 
+import com.kulebiakin.api.core.ApiClient;
 import com.kulebiakin.api.core.ApiConfig;
 import com.kulebiakin.api.domain.model.Post;
-import io.restassured.http.ContentType;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 
 import static io.restassured.RestAssured.given;
 
 public class PostService {
 
+    private final RequestSpecification spec;
+
+    public PostService() {
+        this(ApiClient.getDefault().getSpec());
+    }
+
+    public PostService(RequestSpecification spec) {
+        this.spec = spec;
+    }
+
     public Response getAllPosts() {
         return given()
-            .baseUri(ApiConfig.BASE_URL)
-            .contentType(ContentType.JSON)
+            .spec(spec)
+            .when()
+            .get(ApiConfig.POSTS_ENDPOINT);
+    }
+
+    // Posts [start, start + limit); the response's X-Total-Count header carries the size of the collection
+    public Response getPosts(int start, int limit) {
+        return given()
+            .spec(spec)
+            .queryParam("_start", start)
+            .queryParam("_limit", limit)
             .when()
             .get(ApiConfig.POSTS_ENDPOINT);
     }
 
     public Response getPostById(Object id) {
         return given()
-            .baseUri(ApiConfig.BASE_URL)
-            .contentType(ContentType.JSON)
+            .spec(spec)
             .when()
             .get(ApiConfig.POSTS_ENDPOINT + "/" + id);
     }
 
     public Response createPost(Post post) {
         return given()
-            .baseUri(ApiConfig.BASE_URL)
-            .contentType(ContentType.JSON)
+            .spec(spec)
             .body(post)
             .when()
             .post(ApiConfig.POSTS_ENDPOINT);
@@ -36,8 +54,7 @@ public class PostService {
 
     public Response updatePost(int id, Post post) {
         return given()
-            .baseUri(ApiConfig.BASE_URL)
-            .contentType(ContentType.JSON)
+            .spec(spec)
             .body(post)
             .when()
             .put(ApiConfig.POSTS_ENDPOINT + "/" + id);
@@ -45,8 +62,7 @@ public class PostService {
 
     public Response deletePost(int id) {
         return given()
-            .baseUri(ApiConfig.BASE_URL)
-            .contentType(ContentType.JSON)
+            .spec(spec)
             .when()
             .delete(ApiConfig.POSTS_ENDPOINT + "/" + id);
     }
@@ -0,0 +1,196 @@
+package com.kulebiakin.api.domain.service;
+
+import com.kulebiakin.api.domain.model.Post;
+import com.kulebiakin.api.domain.model.User;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Joins every user with their posts: fetches the users, then fans out one {@code /users/{id}/posts} request per
+ * user with at most {@code maxConcurrency} of them outstanding. A request counts as outstanding until its result
+ * has been consumed, so a slow consumer holds back further requests instead of piling up results (backpressure).
+ * With {@code maxConcurrency} 1 this is the one-at-a-time loop the join replaces.
+ */
+public class UserPostsAggregator {
+
+    public static final int DEFAULT_MAX_CONCURRENCY = 8;
+
+    private final AsyncUserService userService;
+    private final int maxConcurrency;
+
+    public UserPostsAggregator() {
+        this(new AsyncUserService(), DEFAULT_MAX_CONCURRENCY);
+    }
+
+    public UserPostsAggregator(AsyncUserService userService, int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        this.userService = userService;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public record UserPosts(User user, List<Post> posts) {
+    }
+
+    /**
+     * Wall-clock times of the same join done one request at a time and with this aggregator's concurrency.
+     */
+    public record SpeedUp(Duration sequential, Duration concurrent, int maxConcurrency) {
+
+        public double ratio() {
+            return (double) sequential.toNanos() / Math.max(1, concurrent.toNanos());
+        }
+
+        // "sequential 615 ms, 10 concurrent 123 ms, speed-up 5.0x"
+        public String format() {
+            return String.format(Locale.ROOT, "sequential %d ms, %d concurrent %d ms, speed-up %.1fx",
+                sequential.toMillis(), maxConcurrency, concurrent.toMillis(), ratio());
+        }
+    }
+
+    // Users in API order, each with their posts
+    public Map<User, List<Post>> joinAll() {
+        List<User> users = userService.getAllUsers().join();
+        // Pre-filled so the map keeps the API order although results arrive in completion order
+        Map<User, List<Post>> joined = new LinkedHashMap<>();
+        users.forEach(user -> joined.put(user, List.of()));
+        try (Stream<UserPosts> stream = stream(users)) {
+            stream.forEach(userPosts -> joined.put(userPosts.user(), userPosts.posts()));
+        }
+        return joined;
+    }
+
+    /**
+     * Runs {@link #joinAll()} one request at a time, then with {@code maxConcurrency}, and reports both times. The
+     * two joins must agree, otherwise the comparison would be between different work.
+     */
+    public SpeedUp measureSpeedUp() {
+        long start = System.nanoTime();
+        Map<User, List<Post>> sequential = new UserPostsAggregator(userService, 1).joinAll();
+        long sequentialNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        Map<User, List<Post>> concurrent = joinAll();
+        long concurrentNanos = System.nanoTime() - start;
+        if (!sequential.equals(concurrent)) {
+            throw new IllegalStateException("Sequential and concurrent joins returned different posts");
+        }
+        return new SpeedUp(Duration.ofNanos(sequentialNanos), Duration.ofNanos(concurrentNanos), maxConcurrency);
+    }
+
+    public Stream<UserPosts> streamAll() {
+        return stream(userService.getAllUsers().join());
+    }
+
+    /**
+     * Lazily fetches the posts of {@code users}, yielding each user as soon as their posts arrive (completion
+     * order). Requests are sent from the consuming thread as results are taken. A failed request fails the stream
+     * with its {@link java.util.concurrent.CompletionException} and cancels the requests still outstanding, as does
+     * closing the stream before it is exhausted.
+     */
+    public Stream<UserPosts> stream(List<User> users) {
+        FanOut fanOut = new FanOut(users);
+        return StreamSupport.stream(fanOut, false).onClose(fanOut::close);
+    }
+
+    /**
+     * Differences between {@code joined} and the same posts fetched in one {@code /posts} call grouped by
+     * {@code userId}: posts missing or extra per user, and posts of users not in {@code joined}. Empty when they
+     * agree.
+     */
+    public static List<String> crossValidate(Map<User, List<Post>> joined, List<Post> allPosts) {
+        Map<Integer, List<Post>> byUser = allPosts.stream()
+            .collect(Collectors.groupingBy(Post::getUserId, LinkedHashMap::new, Collectors.toList()));
+        List<String> mismatches = new ArrayList<>();
+        joined.forEach((user, posts) -> {
+            List<Post> expected = byUser.getOrDefault(user.getId(), List.of());
+            if (!expected.equals(posts)) {
+                mismatches.add("User " + user.getId() + ": /users/" + user.getId() + "/posts returned "
+                    + ids(posts) + ", /posts has " + ids(expected));
+            }
+        });
+        byUser.keySet().stream()
+            .filter(userId -> joined.keySet().stream().noneMatch(user -> Objects.equals(user.getId(), userId)))
+            .forEach(userId -> mismatches.add("Posts " + ids(byUser.get(userId)) + " belong to unknown user " + userId));
+        return mismatches;
+    }
+
+    private static List<Integer> ids(List<Post> posts) {
+        return posts.stream().map(Post::getId).toList();
+    }
+
+    private record Request(User user, CompletableFuture<List<Post>> posts) {
+    }
+
+    private final class FanOut extends Spliterators.AbstractSpliterator<UserPosts> {
+        private final List<User> users;
+        // Completed requests not yet consumed; never more than maxConcurrency including those in flight
+        private final BlockingQueue<Request> completed;
+        // Sent and not yet consumed, cancelled when the stream closes or fails
+        private final Set<CompletableFuture<List<Post>>> outstanding = new HashSet<>();
+        private int sent;
+        private int consumed;
+        private boolean closed;
+
+        FanOut(List<User> users) {
+            super(users.size(), Spliterator.SIZED | Spliterator.NONNULL);
+            this.users = users;
+            this.completed = new ArrayBlockingQueue<>(Math.max(1, Math.min(maxConcurrency, users.size())));
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super UserPosts> action) {
+            if (closed || consumed == users.size()) {
+                return false;
+            }
+            while (sent < users.size() && sent - consumed < maxConcurrency) {
+                User user = users.get(sent++);
+                Request request = new Request(user, userService.getUserPosts(user.getId()));
+                outstanding.add(request.posts());
+                request.posts().whenComplete((posts, error) -> completed.add(request));
+            }
+            Request next;
+            try {
+                next = completed.take();
+            } catch (InterruptedException e) {
+                close();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for user posts", e);
+            }
+            outstanding.remove(next.posts());
+            consumed++;
+            List<Post> posts;
+            try {
+                posts = next.posts().join();
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+            action.accept(new UserPosts(next.user(), posts));
+            return true;
+        }
+
+        void close() {
+            closed = true;
+            outstanding.forEach(request -> request.cancel(false));
+            outstanding.clear();
+        }
+    }
+}
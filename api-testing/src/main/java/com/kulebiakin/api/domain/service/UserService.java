@@ -1,33 +1,41 @@
 package com.kulebiakin.api.domain.service;
 
+import com.kulebiakin.api.core.ApiClient;
 import com.kulebiakin.api.core.ApiConfig;
-import io.restassured.http.ContentType;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 
 import static io.restassured.RestAssured.given;
 
 public class UserService {
 
+    private final RequestSpecification spec;
+
+    public UserService() {
+        this(ApiClient.getDefault().getSpec());
+    }
+
+    public UserService(RequestSpecification spec) {
+        this.spec = spec;
+    }
+
     public Response getAllUsers() {
         return given()
-            .baseUri(ApiConfig.BASE_URL)
-            .contentType(ContentType.JSON)
+            .spec(spec)
             .when()
             .get(ApiConfig.USERS_ENDPOINT);
     }
 
     public Response getUserById(Object id) {
         return given()
-            .baseUri(ApiConfig.BASE_URL)
-            .contentType(ContentType.JSON)
+            .spec(spec)
             .when()
             .get(ApiConfig.USERS_ENDPOINT + "/" + id);
     }
 
     public Response getUserPosts(int userId) {
         return given()
-            .baseUri(ApiConfig.BASE_URL)
-            .contentType(ContentType.JSON)
+            .spec(spec)
             .when()
             .get(ApiConfig.USERS_ENDPOINT + "/" + userId + "/posts");
     }
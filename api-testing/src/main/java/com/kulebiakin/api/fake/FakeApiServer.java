@@ -0,0 +1,328 @@
+package com.kulebiakin.api.fake;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.kulebiakin.api.core.VirtualThreads;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+
+/**
+ * In-process stand-in for JSONPlaceholder on the JDK's {@code com.sun.net.httpserver}, bound to the loopback
+ * interface. It serves the routes the test suites use with the real service's semantics:
+ * <ul>
+ *     <li>{@code GET /posts}, {@code /posts/{id}}, {@code /users}, {@code /users/{id}}, {@code /users/{id}/posts};
+ *     unknown or non-numeric ids answer 404 with {@code {}}, posts of an unknown user are an empty array</li>
+ *     <li>{@code POST} echoes the body with the next free id (101 for posts) without storing it</li>
+ *     <li>{@code PUT} and {@code PATCH} echo the body merged into the resource; {@code DELETE} answers 200</li>
+ *     <li>{@code GET /posts} and {@code /users} page with {@code _start}/{@code _end}/{@code _limit} or
+ *     {@code _page}/{@code _limit} and then report the collection size in {@code X-Total-Count}</li>
+ *     <li>beyond {@link FakeDataset#EAGER_POST_LIMIT} posts, unpaged post listings are generated and sent chunked
+ *     while they are written</li>
+ *     <li>successful {@code GET}s carry a weak {@code ETag} and answer 304 to a matching {@code If-None-Match}</li>
+ * </ul>
+ * The dataset never changes, so requests need no locking. Latency and error injection come from
+ * {@link FakeApiServerConfig}.
+ */
+public class FakeApiServer implements AutoCloseable {
+
+    private static final String CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final byte[] EMPTY_OBJECT = "{}".getBytes(StandardCharsets.UTF_8);
+
+    static {
+        // The JDK server writes headers and body separately; with Nagle's algorithm on, the body then waits for
+        // the client's delayed ACK and every response takes ~40 ms. Read once, before the first server starts.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final FakeApiServerConfig config;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final FakeDataset dataset;
+    private final LongAdder requests = new LongAdder();
+
+    private FakeApiServer(HttpServer server, ExecutorService executor, FakeApiServerConfig config) {
+        this.server = server;
+        this.executor = executor;
+        this.config = config;
+        this.dataset = new FakeDataset(mapper, config.getPostCount());
+        server.createContext("/", this::handle);
+    }
+
+    public static FakeApiServer start(FakeApiServerConfig config) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), config.getPort()), 0);
+        ExecutorService executor = VirtualThreads.newExecutor("fake-api-server");
+        server.setExecutor(executor);
+        FakeApiServer fakeServer = new FakeApiServer(server, executor, config);
+        server.start();
+        return fakeServer;
+    }
+
+    /**
+     * Server shared by the whole JVM, started on first use with the {@code api.fake.*} system properties.
+     * Used by {@link com.kulebiakin.api.core.ApiConfig} when {@code -Dapi.backend=fake}.
+     */
+    public static FakeApiServer shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + getPort();
+    }
+
+    // Requests received, including the ones answered with an injected error
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.increment();
+        try {
+            if (config.getLatencyMillis() > 0) {
+                TimeUnit.MILLISECONDS.sleep(config.getLatencyMillis());
+            }
+            if (config.getErrorRate() > 0 && ThreadLocalRandom.current().nextDouble() < config.getErrorRate()) {
+                respond(exchange, config.getErrorStatus(), EMPTY_OBJECT);
+                return;
+            }
+            route(exchange);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        String[] path = exchange.getRequestURI().getPath().replaceAll("^/+|/+$", "").split("/+");
+        String method = exchange.getRequestMethod();
+        boolean posts = path[0].equals("posts");
+        if (!posts && !path[0].equals("users")) {
+            respond(exchange, 404, EMPTY_OBJECT);
+            return;
+        }
+
+        if (path.length == 1) {
+            int[] range = method.equals("GET") ? pageRange(exchange.getRequestURI().getRawQuery()) : null;
+            if (range != null) {
+                int total = posts ? dataset.postCount() : dataset.userCount();
+                exchange.getResponseHeaders().set("X-Total-Count", Integer.toString(total));
+                respond(exchange, 200, dataset.slice(posts, range[0], range[1]));
+            } else if (method.equals("GET") && posts && dataset.allPosts() == null) {
+                respondStreamed(exchange, out -> dataset.writePosts(0, out));
+            } else if (method.equals("GET")) {
+                respond(exchange, 200, posts ? dataset.allPosts() : dataset.allUsers());
+            } else if (method.equals("POST")) {
+                int nextId = (posts ? dataset.postCount() : dataset.userCount()) + 1;
+                respond(exchange, 201, withId(readBody(exchange), nextId));
+            } else {
+                respond(exchange, 404, EMPTY_OBJECT);
+            }
+            return;
+        }
+
+        int id = parseId(path[1]);
+        if (path.length == 3 && !posts && path[2].equals("posts") && method.equals("GET")) {
+            byte[] userPosts = dataset.postsOfUser(id);
+            if (userPosts == null) {
+                respondStreamed(exchange, out -> dataset.writePosts(id, out));
+            } else {
+                respond(exchange, 200, userPosts);
+            }
+            return;
+        }
+        if (path.length != 2) {
+            respond(exchange, 404, EMPTY_OBJECT);
+            return;
+        }
+        byte[] resource = posts ? dataset.post(id) : dataset.user(id);
+        switch (method) {
+            case "GET" -> respond(exchange, resource == null ? 404 : 200, resource == null ? EMPTY_OBJECT : resource);
+            // The real service fails updates of missing resources with 500
+            case "PUT" -> {
+                if (resource == null) {
+                    respond(exchange, 500, EMPTY_OBJECT);
+                } else {
+                    respond(exchange, 200, withId(readBody(exchange), id));
+                }
+            }
+            case "PATCH" -> {
+                if (resource == null) {
+                    respond(exchange, 404, EMPTY_OBJECT);
+                } else {
+                    ObjectNode merged = (ObjectNode) mapper.readTree(resource);
+                    merged.setAll(readBody(exchange));
+                    respond(exchange, 200, withId(merged, id));
+                }
+            }
+            case "DELETE" -> respond(exchange, 200, EMPTY_OBJECT);
+            default -> respond(exchange, 404, EMPTY_OBJECT);
+        }
+    }
+
+    /**
+     * Index range [start, end) selected by json-server's pagination parameters, or null when the query has none:
+     * {@code _start} with {@code _end} or {@code _limit} slices by index, {@code _page} (from 1) pages by
+     * {@code _limit}, which defaults to 10. Parameters that are not numbers are ignored.
+     */
+    static int[] pageRange(String rawQuery) {
+        if (rawQuery == null) {
+            return null;
+        }
+        Map<String, Integer> params = new HashMap<>();
+        for (String param : rawQuery.split("&")) {
+            int eq = param.indexOf('=');
+            if (eq > 0) {
+                try {
+                    params.put(param.substring(0, eq), Integer.parseInt(param.substring(eq + 1)));
+                } catch (NumberFormatException e) {
+                    // ignored like the real service does
+                }
+            }
+        }
+        Integer page = params.get("_page");
+        Integer start = params.get("_start");
+        Integer end = params.get("_end");
+        Integer limit = params.get("_limit");
+        if (page != null) {
+            int size = limit != null ? limit : 10;
+            long from = (Math.max(page, 1) - 1L) * size;
+            return new int[] {clamp(from), clamp(from + size)};
+        }
+        if (start == null && end == null && limit == null) {
+            return null;
+        }
+        int from = start != null ? start : 0;
+        long to = end != null ? end : limit != null ? (long) from + limit : Integer.MAX_VALUE;
+        return new int[] {from, clamp(to)};
+    }
+
+    private static int clamp(long index) {
+        return (int) Math.min(index, Integer.MAX_VALUE);
+    }
+
+    // -1 for ids that are not numbers, which then match no resource
+    private static int parseId(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // Malformed or non-object bodies are treated as empty, like the real service does
+    private ObjectNode readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            JsonNode body = mapper.readTree(in.readAllBytes());
+            return body instanceof ObjectNode ? (ObjectNode) body : mapper.createObjectNode();
+        } catch (JsonProcessingException e) {
+            return mapper.createObjectNode();
+        }
+    }
+
+    private byte[] withId(ObjectNode body, int id) throws IOException {
+        body.put("id", id);
+        return mapper.writeValueAsBytes(body);
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        boolean get = exchange.getRequestMethod().equals("GET");
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.getResponseHeaders().set("Cache-Control", get ? "max-age=43200" : "no-cache");
+        if (get && status == 200) {
+            String etag = etagOf(body);
+            exchange.getResponseHeaders().set("ETag", etag);
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+        }
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    // 200 with a chunked body written as it is generated, for collections too large to serialize up front;
+    // such responses carry no ETag
+    private static void respondStreamed(HttpExchange exchange, BodyWriter writer) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.getResponseHeaders().set("Cache-Control", "max-age=43200");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = new BufferedOutputStream(exchange.getResponseBody(), 1 << 16)) {
+            writer.write(out);
+        }
+    }
+
+    @FunctionalInterface
+    private interface BodyWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    // Weak validator like the real service's, derived from the body
+    private static String etagOf(byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return "W/\"" + Integer.toHexString(body.length) + "-" + Long.toHexString(crc.getValue()) + "\"";
+    }
+
+    // The HTTP dispatcher thread inherits the daemon flag of the thread that starts the server,
+    // so starting the shared server from a daemon thread keeps it from holding the JVM open
+    private static FakeApiServer startDaemon(FakeApiServerConfig config) {
+        FakeApiServer[] started = new FakeApiServer[1];
+        IOException[] failure = new IOException[1];
+        Thread starter = new Thread(() -> {
+            try {
+                started[0] = start(config);
+            } catch (IOException e) {
+                failure[0] = e;
+            }
+        }, "fake-api-server-start");
+        starter.setDaemon(true);
+        starter.start();
+        try {
+            starter.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while starting fake API server", e);
+        }
+        if (failure[0] != null) {
+            throw new UncheckedIOException("Cannot start fake API server", failure[0]);
+        }
+        return started[0];
+    }
+
+    private static final class SharedHolder {
+        private static final FakeApiServer INSTANCE = startDaemon(FakeApiServerConfig.builder().build());
+    }
+}
@@ -0,0 +1,24 @@
+package com.kulebiakin.api.fake;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class FakeApiServerConfig {
+    // 0 binds an ephemeral port
+    @Builder.Default
+    int port = Integer.getInteger("api.fake.port", 0);
+    // Delay added before every response
+    @Builder.Default
+    long latencyMillis = Long.getLong("api.fake.latencyMillis", 0);
+    // Share of requests, between 0 and 1, answered with errorStatus instead of being served
+    @Builder.Default
+    double errorRate = Double.parseDouble(System.getProperty("api.fake.errorRate", "0"));
+    @Builder.Default
+    int errorStatus = Integer.getInteger("api.fake.errorStatus", 500);
+    // Generated posts, ten per user in turn; the real service has 100. Beyond 10 000 they are generated per request
+    // instead of held in memory, so counts in the tens of millions stay cheap
+    @Builder.Default
+    int postCount = Integer.getInteger("api.fake.postCount", 100);
+}
@@ -0,0 +1,200 @@
+package com.kulebiakin.api.fake;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kulebiakin.api.domain.model.Post;
+import com.kulebiakin.api.domain.model.User;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Read-only copy of the JSONPlaceholder data: the ten users shipped in {@code fake/users.json} and 100 generated
+ * posts, ten per user. Larger datasets continue the pattern, so post 101 belongs to user 1 again. Up to
+ * {@link #EAGER_POST_LIMIT} posts every response body is serialized once up front so serving a request is a byte
+ * copy. Beyond that posts are generated on demand from their id, so memory does not grow with the post count;
+ * collections too large to hold are then written element by element with {@link #writePosts}.
+ */
+final class FakeDataset {
+
+    static final int POSTS_PER_USER = 10;
+    static final int EAGER_POST_LIMIT = 10_000;
+
+    private static final String[] WORDS = {
+        "sunt", "aut", "facere", "repellat", "provident", "occaecati", "excepturi", "optio", "reprehenderit",
+        "qui", "est", "esse", "ea", "molestias", "quasi", "exercitationem", "nesciunt", "eum", "et", "iusto",
+        "sed", "quo", "iure", "voluptatem", "odit", "dolorem", "dolor", "beatae", "ad", "magnam", "illum",
+        "quia", "suscipit", "recusandae", "consequuntur", "expedita", "cum", "molestiae", "ut", "quas", "totam",
+        "nostrum", "rerum", "autem", "rem", "eveniet", "architecto", "tempore", "vitae", "sequi", "sint", "nihil"
+    };
+
+    private final ObjectMapper mapper;
+    private final int postCount;
+    private final List<byte[]> users;
+    private final byte[] allUsers;
+    private final byte[] noPosts;
+    // Null beyond EAGER_POST_LIMIT
+    private final List<byte[]> posts;
+    private final List<byte[]> postsByUser;
+    private final byte[] allPosts;
+
+    FakeDataset(ObjectMapper mapper, int postCount) {
+        this.mapper = mapper;
+        this.postCount = postCount;
+        try {
+            List<User> userModels = loadUsers(mapper);
+            this.users = serializeEach(mapper, userModels);
+            this.allUsers = mapper.writeValueAsBytes(userModels);
+            this.noPosts = mapper.writeValueAsBytes(List.of());
+            if (postCount > EAGER_POST_LIMIT) {
+                this.posts = null;
+                this.postsByUser = null;
+                this.allPosts = null;
+                return;
+            }
+            List<Post> postModels = new ArrayList<>(postCount);
+            for (int id = 1; id <= postCount; id++) {
+                postModels.add(generatePost(id));
+            }
+            this.posts = serializeEach(mapper, postModels);
+            this.allPosts = mapper.writeValueAsBytes(postModels);
+            this.postsByUser = new ArrayList<>();
+            for (User user : userModels) {
+                List<Post> owned = postModels.stream().filter(post -> post.getUserId().equals(user.getId())).toList();
+                postsByUser.add(mapper.writeValueAsBytes(owned));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot build fake dataset", e);
+        }
+    }
+
+    int postCount() {
+        return postCount;
+    }
+
+    int userCount() {
+        return users.size();
+    }
+
+    // null when there is no post with this id
+    byte[] post(int id) {
+        if (id < 1 || id > postCount) {
+            return null;
+        }
+        return posts != null ? posts.get(id - 1) : serialize(generatePost(id));
+    }
+
+    byte[] user(int id) {
+        return id >= 1 && id <= users.size() ? users.get(id - 1) : null;
+    }
+
+    // null when the posts are generated on demand; see writePosts
+    byte[] allPosts() {
+        return allPosts;
+    }
+
+    byte[] allUsers() {
+        return allUsers;
+    }
+
+    // JSON array of the posts or users with index in [start, end), clamped to the collection
+    byte[] slice(boolean posts, int start, int end) {
+        int size = posts ? postCount : users.size();
+        int from = Math.max(0, Math.min(start, size));
+        int to = Math.max(from, Math.min(end, size));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write('[');
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                out.write(',');
+            }
+            out.writeBytes(posts ? post(i + 1) : users.get(i));
+        }
+        out.write(']');
+        return out.toByteArray();
+    }
+
+    // Unknown users have no posts, as on the real service; null when the posts are generated on demand
+    byte[] postsOfUser(int userId) {
+        if (userId < 1 || userId > users.size()) {
+            return noPosts;
+        }
+        return postsByUser == null ? null : postsByUser.get(userId - 1);
+    }
+
+    /**
+     * Writes the posts of {@code userId}, or all posts when it is 0, as a JSON array one post at a time, for
+     * collections that {@link #allPosts()} and {@link #postsOfUser(int)} do not hold.
+     */
+    void writePosts(int userId, OutputStream out) throws IOException {
+        // Posts come in blocks of POSTS_PER_USER that belong to the users in turn
+        long firstBlock = userId == 0 ? 0 : userId - 1;
+        long blockStep = userId == 0 ? 1 : users.size();
+        out.write('[');
+        for (long block = firstBlock; block * POSTS_PER_USER < postCount; block += blockStep) {
+            int firstId = (int) (block * POSTS_PER_USER) + 1;
+            int lastId = (int) Math.min(postCount, (block + 1) * POSTS_PER_USER);
+            for (int id = firstId; id <= lastId; id++) {
+                if (block != firstBlock || id != firstId) {
+                    out.write(',');
+                }
+                out.write(serialize(generatePost(id)));
+            }
+        }
+        out.write(']');
+    }
+
+    private int userOf(int postId) {
+        return (postId - 1) / POSTS_PER_USER % users.size() + 1;
+    }
+
+    // Seeded by the id, so a post is the same whether it is built up front or on demand
+    private Post generatePost(int id) {
+        Random random = new Random(id);
+        StringBuilder body = new StringBuilder();
+        for (int line = 0; line < 4; line++) {
+            body.append(line == 0 ? "" : "\n").append(words(random, 6 + random.nextInt(4)));
+        }
+        return new Post(id, userOf(id), words(random, 4 + random.nextInt(5)), body.toString());
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return mapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot serialize " + value, e);
+        }
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            text.append(i == 0 ? "" : " ").append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+
+    private static List<User> loadUsers(ObjectMapper mapper) throws IOException {
+        try (InputStream in = FakeDataset.class.getResourceAsStream("/fake/users.json")) {
+            if (in == null) {
+                throw new IOException("Resource fake/users.json not found");
+            }
+            return mapper.readValue(in, new TypeReference<>() {
+            });
+        }
+    }
+
+    private static <T> List<byte[]> serializeEach(ObjectMapper mapper, List<T> items) throws IOException {
+        List<byte[]> result = new ArrayList<>(items.size());
+        for (T item : items) {
+            result.add(mapper.writeValueAsBytes(item));
+        }
+        return List.copyOf(result);
+    }
+}
@@ -0,0 +1,57 @@
+package com.kulebiakin.api.load;
+
+import lombok.Getter;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms of one operation, in microseconds. {@code latency} is measured from the moment the
+ * request was meant to start, so time spent queued behind a slow server is not omitted; {@code serviceTime}
+ * is measured from the moment it actually started and shows what the server alone took.
+ */
+public final class EndpointStats {
+
+    // 1 µs to 1 hour at 3 significant digits
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+
+    @Getter
+    private final String name;
+    private final ConcurrentHistogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final ConcurrentHistogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    void record(long intendedStartNanos, long actualStartNanos, long endNanos, boolean failed) {
+        latency.recordValue(toMicros(endNanos - intendedStartNanos));
+        serviceTime.recordValue(toMicros(endNanos - actualStartNanos));
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    public Histogram getLatency() {
+        return latency.copy();
+    }
+
+    public Histogram getServiceTime() {
+        return serviceTime.copy();
+    }
+
+    public long getCount() {
+        return serviceTime.getTotalCount();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos)), HIGHEST_TRACKABLE_MICROS);
+    }
+}
@@ -0,0 +1,35 @@
+package com.kulebiakin.api.load;
+
+import com.kulebiakin.api.core.ApiConfig;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+
+@Value
+@Builder
+public class LoadConfig {
+    @Builder.Default
+    String baseUri = ApiConfig.BASE_URL;
+    @Builder.Default
+    Scenario scenario = Scenario.readHeavy();
+    @Builder.Default
+    LoadModel model = LoadModel.CLOSED;
+    // OPEN: requests started per second
+    @Builder.Default
+    double ratePerSecond = 100;
+    // OPEN: requests allowed in flight, further arrivals queue and their wait counts as latency
+    @Builder.Default
+    int maxConcurrency = 256;
+    // CLOSED: virtual users
+    @Builder.Default
+    int users = 16;
+    // CLOSED: interval at which each user intends to start a request, zero for back-to-back
+    @Builder.Default
+    Duration pacing = Duration.ZERO;
+    // Includes the warmup, whose requests are not recorded
+    @Builder.Default
+    Duration duration = Duration.ofSeconds(30);
+    @Builder.Default
+    Duration warmup = Duration.ofSeconds(5);
+}
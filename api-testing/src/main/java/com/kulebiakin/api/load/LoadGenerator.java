@@ -0,0 +1,207 @@
+package com.kulebiakin.api.load;
+
+import com.kulebiakin.api.core.ApiClient;
+import com.kulebiakin.api.core.ApiClientConfig;
+import com.kulebiakin.api.core.VirtualThreads;
+import com.kulebiakin.api.domain.service.PostService;
+import com.kulebiakin.api.domain.service.UserService;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a {@link Scenario} against the API and reports per-operation throughput and latency percentiles.
+ * <p>
+ * In the {@link LoadModel#OPEN open} model a scheduler starts requests at fixed intended times regardless of
+ * how many are still running (up to {@code maxConcurrency} in flight). In the {@link LoadModel#CLOSED closed}
+ * model {@code users} virtual users each send a request, wait for it and optionally wait for their next
+ * {@code pacing} slot. Either way latency is measured from the intended start, so a stalled server shows up as
+ * the queueing it causes instead of as fewer, fast-looking samples (coordinated omission).
+ * <p>
+ * Run from the {@code api-testing} module with
+ * {@code mvn exec:java -Dexec.mainClass=com.kulebiakin.api.load.LoadGenerator -Dexec.args="--model open --rate 200"}.
+ */
+public final class LoadGenerator {
+
+    private final LoadConfig config;
+    private final Scenario scenario;
+    private final List<EndpointStats> stats = new ArrayList<>();
+
+    private static final double MAX_RATE_PER_SECOND = 1e9;
+
+    public LoadGenerator(LoadConfig config) {
+        validate(config);
+        this.config = config;
+        this.scenario = config.getScenario();
+        for (String name : scenario.getOperationNames()) {
+            stats.add(new EndpointStats(name));
+        }
+    }
+
+    public static LoadReport run(LoadConfig config) throws InterruptedException {
+        return new LoadGenerator(config).run();
+    }
+
+    public LoadReport run() throws InterruptedException {
+        int connections = config.getModel() == LoadModel.OPEN ? config.getMaxConcurrency() : config.getUsers();
+        ApiClientConfig clientConfig = ApiClientConfig.builder()
+            .baseUri(config.getBaseUri())
+            .maxConnections(connections)
+            .maxConnectionsPerRoute(connections)
+            .build();
+        ExecutorService executor = VirtualThreads.newExecutor("load-generator");
+        try (ApiClient client = ApiClient.create(clientConfig)) {
+            PostService postService = new PostService(client.getSpec());
+            UserService userService = new UserService(client.getSpec());
+            long startNanos = System.nanoTime();
+            long measureFromNanos = startNanos + config.getWarmup().toNanos();
+            long endNanos = startNanos + config.getDuration().toNanos();
+
+            if (config.getModel() == LoadModel.OPEN) {
+                runOpen(executor, postService, userService, startNanos, measureFromNanos, endNanos);
+            } else {
+                runClosed(executor, postService, userService, startNanos, measureFromNanos, endNanos);
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(config.getDuration().toMillis() + 30_000, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("Requests still in flight after the load run finished");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Duration measured = config.getDuration().minus(config.getWarmup());
+        return new LoadReport(scenario.getName(), config.getModel(), measured, stats);
+    }
+
+    private static void validate(LoadConfig config) {
+        // NaN fails both comparisons
+        if (!(config.getRatePerSecond() > 0 && config.getRatePerSecond() <= MAX_RATE_PER_SECOND)) {
+            throw new IllegalArgumentException("ratePerSecond must be in (0, 1e9]: " + config.getRatePerSecond());
+        }
+        if (config.getMaxConcurrency() <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + config.getMaxConcurrency());
+        }
+        if (config.getUsers() <= 0) {
+            throw new IllegalArgumentException("users must be positive: " + config.getUsers());
+        }
+        if (config.getPacing().isNegative()) {
+            throw new IllegalArgumentException("pacing must not be negative: " + config.getPacing());
+        }
+        if (config.getWarmup().isNegative() || config.getWarmup().compareTo(config.getDuration()) >= 0) {
+            throw new IllegalArgumentException("warmup must be at least zero and shorter than the duration: warmup "
+                + config.getWarmup() + ", duration " + config.getDuration());
+        }
+    }
+
+    private void runOpen(ExecutorService executor, PostService postService, UserService userService,
+                         long startNanos, long measureFromNanos, long endNanos) throws InterruptedException {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / config.getRatePerSecond());
+        Semaphore inFlight = new Semaphore(config.getMaxConcurrency());
+        for (long intended = startNanos; intended < endNanos; intended += intervalNanos) {
+            parkUntil(intended);
+            // Blocking here delays the actual start but not the intended one, so the wait is part of the latency
+            inFlight.acquire();
+            long intendedStart = intended;
+            executor.execute(() -> {
+                try {
+                    execute(postService, userService, intendedStart, intendedStart >= measureFromNanos);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+    }
+
+    private void runClosed(ExecutorService executor, PostService postService, UserService userService,
+                           long startNanos, long measureFromNanos, long endNanos) {
+        long pacingNanos = config.getPacing().toNanos();
+        for (int user = 0; user < config.getUsers(); user++) {
+            executor.execute(() -> {
+                long intended = startNanos;
+                while (intended < endNanos && !Thread.currentThread().isInterrupted()) {
+                    if (pacingNanos > 0) {
+                        parkUntil(intended);
+                    } else {
+                        intended = System.nanoTime();
+                    }
+                    execute(postService, userService, intended, intended >= measureFromNanos);
+                    intended = pacingNanos > 0 ? intended + pacingNanos : System.nanoTime();
+                }
+            });
+        }
+    }
+
+    private void execute(PostService postService, UserService userService, long intendedStartNanos, boolean measured) {
+        Random random = ThreadLocalRandom.current();
+        int index = scenario.pick(random);
+        long actualStart = System.nanoTime();
+        boolean failed;
+        try {
+            failed = scenario.operation(index).execute(postService, userService, random) >= 400;
+        } catch (Exception e) {
+            // RestAssured rethrows I/O failures such as NoHttpResponseException undeclared
+            failed = true;
+        }
+        long end = System.nanoTime();
+        if (measured) {
+            stats.get(index).record(intendedStartNanos, actualStart, end, failed);
+        }
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        for (long remaining = deadlineNanos - System.nanoTime(); remaining > 0; remaining = deadlineNanos - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadConfig.LoadConfigBuilder builder = LoadConfig.builder();
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+            String value = args[++i];
+            switch (option) {
+                case "--base-url":
+                    builder.baseUri(value);
+                    break;
+                case "--scenario":
+                    builder.scenario(Scenario.byName(value));
+                    break;
+                case "--model":
+                    builder.model(LoadModel.valueOf(value.toUpperCase(Locale.ROOT)));
+                    break;
+                case "--rate":
+                    builder.ratePerSecond(Double.parseDouble(value));
+                    break;
+                case "--max-concurrency":
+                    builder.maxConcurrency(Integer.parseInt(value));
+                    break;
+                case "--users":
+                    builder.users(Integer.parseInt(value));
+                    break;
+                case "--pacing":
+                    builder.pacing(Duration.ofMillis(Long.parseLong(value)));
+                    break;
+                case "--duration":
+                    builder.duration(Duration.ofSeconds(Long.parseLong(value)));
+                    break;
+                case "--warmup":
+                    builder.warmup(Duration.ofSeconds(Long.parseLong(value)));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + option);
+            }
+        }
+        System.out.print(run(builder.build()).format());
+    }
+}
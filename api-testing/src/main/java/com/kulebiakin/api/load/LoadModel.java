@@ -0,0 +1,8 @@
+package com.kulebiakin.api.load;
+
+public enum LoadModel {
+    // Requests arrive at a fixed rate whether or not earlier ones have completed
+    OPEN,
+    // A fixed number of virtual users each send their next request once the previous one completed
+    CLOSED
+}
@@ -0,0 +1,73 @@
+package com.kulebiakin.api.load;
+
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Per-operation outcome of a {@link LoadGenerator} run over the measured (post-warmup) window.
+ */
+@Getter
+public final class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final String scenario;
+    private final LoadModel model;
+    private final Duration measured;
+    private final List<EndpointStats> endpoints;
+
+    LoadReport(String scenario, LoadModel model, Duration measured, List<EndpointStats> endpoints) {
+        this.scenario = scenario;
+        this.model = model;
+        this.measured = measured;
+        this.endpoints = List.copyOf(endpoints);
+    }
+
+    public Optional<EndpointStats> endpoint(String name) {
+        return endpoints.stream().filter(stats -> stats.getName().equals(name)).findFirst();
+    }
+
+    public long getTotalCount() {
+        return endpoints.stream().mapToLong(EndpointStats::getCount).sum();
+    }
+
+    public double throughput(EndpointStats stats) {
+        return stats.getCount() / (measured.toNanos() / 1e9);
+    }
+
+    /**
+     * Table of count, errors, throughput and latency percentiles in milliseconds, one row per operation; the
+     * service-time row of each operation follows its coordinated-omission-corrected row.
+     */
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "Scenario %s, %s model, %.1f s measured%n",
+            scenario, model.name().toLowerCase(Locale.ROOT), measured.toMillis() / 1000.0));
+        out.append(String.format(Locale.ROOT, "%-14s %-8s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+            "operation", "latency", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (EndpointStats stats : endpoints) {
+            appendRow(out, stats, "corrected", stats.getLatency());
+            appendRow(out, stats, "service", stats.getServiceTime());
+        }
+        return out.toString();
+    }
+
+    private void appendRow(StringBuilder out, EndpointStats stats, String kind, Histogram histogram) {
+        out.append(String.format(Locale.ROOT, "%-14s %-8s %8d %7d %9.1f", stats.getName(), kind, stats.getCount(),
+            stats.getErrors(), throughput(stats)));
+        for (double percentile : PERCENTILES) {
+            out.append(String.format(Locale.ROOT, " %9.2f", histogram.getValueAtPercentile(percentile) / 1000.0));
+        }
+        out.append(String.format(Locale.ROOT, " %9.2f%n", histogram.getMaxValue() / 1000.0));
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+}
@@ -0,0 +1,14 @@
+package com.kulebiakin.api.load;
+
+import com.kulebiakin.api.domain.service.PostService;
+import com.kulebiakin.api.domain.service.UserService;
+
+import java.util.Random;
+
+/**
+ * One service call of a {@link Scenario}, returning the HTTP status it got.
+ */
+@FunctionalInterface
+public interface Operation {
+    int execute(PostService postService, UserService userService, Random random);
+}
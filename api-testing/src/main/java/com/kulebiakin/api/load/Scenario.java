@@ -0,0 +1,115 @@
+package com.kulebiakin.api.load;
+
+import com.kulebiakin.api.domain.model.Post;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Weighted mix of named {@link Operation}s; each request picks one with probability proportional to its weight.
+ */
+public final class Scenario {
+
+    @Getter
+    private final String name;
+    private final List<String> names;
+    private final List<Operation> operations;
+    private final int[] cumulativeWeights;
+
+    private Scenario(String name, List<String> names, List<Operation> operations, int[] cumulativeWeights) {
+        this.name = name;
+        this.names = names;
+        this.operations = operations;
+        this.cumulativeWeights = cumulativeWeights;
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    // 80% single posts, 20% posts of a user
+    public static Scenario readHeavy() {
+        return builder("read-heavy")
+            .add("getPostById", 80, (posts, users, random) -> posts.getPostById(1 + random.nextInt(100)).getStatusCode())
+            .add("getUserPosts", 20, (posts, users, random) -> users.getUserPosts(1 + random.nextInt(10)).getStatusCode())
+            .build();
+    }
+
+    public static Scenario crud() {
+        return builder("crud")
+            .add("getPostById", 40, (posts, users, random) -> posts.getPostById(1 + random.nextInt(100)).getStatusCode())
+            .add("createPost", 20, (posts, users, random) ->
+                posts.createPost(new Post(1 + random.nextInt(10), "load test", "created by the load generator")).getStatusCode())
+            .add("updatePost", 20, (posts, users, random) -> {
+                int id = 1 + random.nextInt(100);
+                return posts.updatePost(id, new Post(id, 1 + random.nextInt(10), "load test", "updated")).getStatusCode();
+            })
+            .add("deletePost", 20, (posts, users, random) -> posts.deletePost(1 + random.nextInt(100)).getStatusCode())
+            .build();
+    }
+
+    public static Scenario byName(String name) {
+        switch (name) {
+            case "read-heavy":
+                return readHeavy();
+            case "crud":
+                return crud();
+            default:
+                throw new IllegalArgumentException("Unknown scenario '" + name + "', expected read-heavy or crud");
+        }
+    }
+
+    public List<String> getOperationNames() {
+        return names;
+    }
+
+    // Index of the operation to run, for a draw in [0, total weight)
+    int pick(Random random) {
+        int draw = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = 0;
+        while (draw >= cumulativeWeights[index]) {
+            index++;
+        }
+        return index;
+    }
+
+    Operation operation(int index) {
+        return operations.get(index);
+    }
+
+    public static final class Builder {
+        private final String name;
+        private final List<String> names = new ArrayList<>();
+        private final List<Operation> operations = new ArrayList<>();
+        private final List<Integer> weights = new ArrayList<>();
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        public Builder add(String operationName, int weight, Operation operation) {
+            if (weight <= 0) {
+                throw new IllegalArgumentException("Weight must be positive: " + weight);
+            }
+            names.add(operationName);
+            operations.add(operation);
+            weights.add(weight);
+            return this;
+        }
+
+        public Scenario build() {
+            if (operations.isEmpty()) {
+                throw new IllegalStateException("Scenario " + name + " has no operations");
+            }
+            int[] cumulative = new int[weights.size()];
+            int total = 0;
+            for (int i = 0; i < cumulative.length; i++) {
+                total += weights.get(i);
+                cumulative[i] = total;
+            }
+            return new Scenario(name, List.copyOf(names), List.copyOf(operations), cumulative);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.kulebiakin.api.metrics;
+
+import lombok.Getter;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Phases of one API call. The call is bound to the calling thread while {@link HttpTimingFilter} runs it, so the
+ * transport can report connect and first-byte times. Its response deserializes through a
+ * {@link TimingObjectMapper} bound to the call, so a later {@code as(...)} reports to this call whichever calls
+ * the thread made in between. Phases that did not happen are -1.
+ */
+@Getter
+public final class CallTiming {
+
+    private static final ThreadLocal<CallTiming> CURRENT = new ThreadLocal<>();
+
+    private final EndpointTimings endpoint;
+    private final long startNanos;
+    private int statusCode = -1;
+    private long connectNanos = -1;
+    private long firstByteNanos = -1;
+    private long totalNanos = -1;
+    private long deserializationNanos = -1;
+
+    private CallTiming(EndpointTimings endpoint) {
+        this.endpoint = endpoint;
+        this.startNanos = System.nanoTime();
+    }
+
+    static CallTiming begin(EndpointTimings endpoint) {
+        CallTiming call = new CallTiming(endpoint);
+        CURRENT.set(call);
+        return call;
+    }
+
+    // Unbinds the call from the thread, so transport events of unrelated requests are not charged to it
+    static void end() {
+        CURRENT.remove();
+    }
+
+    // Called by the connection manager after it opened a connection for the in-flight call
+    public static void connected(long nanos) {
+        CallTiming call = CURRENT.get();
+        if (call != null && call.totalNanos < 0) {
+            call.connectNanos = Math.max(call.connectNanos, 0) + nanos;
+        }
+    }
+
+    // Called by the HTTP client when the response headers of the in-flight call arrived
+    public static void firstByteReceived() {
+        CallTiming call = CURRENT.get();
+        if (call != null && call.totalNanos < 0 && call.firstByteNanos < 0) {
+            call.firstByteNanos = System.nanoTime() - call.startNanos;
+        }
+    }
+
+    // Called by the call's TimingObjectMapper each time its response is deserialized
+    synchronized void deserialized(long nanos) {
+        deserializationNanos = Math.max(deserializationNanos, 0) + nanos;
+        endpoint.record(TimingPhase.DESERIALIZATION, nanos);
+    }
+
+    void complete(int statusCode) {
+        this.totalNanos = System.nanoTime() - startNanos;
+        this.statusCode = statusCode;
+        if (connectNanos >= 0) {
+            endpoint.record(TimingPhase.CONNECT, connectNanos);
+        }
+        if (firstByteNanos >= 0) {
+            endpoint.record(TimingPhase.TTFB, firstByteNanos);
+        }
+        endpoint.record(TimingPhase.TOTAL, totalNanos);
+    }
+
+    // "GET /posts/{id} 200: connect 0.41 ms, ttfb 1.20 ms, total 1.35 ms, deserialization 0.08 ms"
+    public String format() {
+        StringBuilder out = new StringBuilder(endpoint.toString()).append(' ').append(statusCode).append(':');
+        appendPhase(out, TimingPhase.CONNECT, connectNanos);
+        appendPhase(out, TimingPhase.TTFB, firstByteNanos);
+        appendPhase(out, TimingPhase.TOTAL, totalNanos);
+        appendPhase(out, TimingPhase.DESERIALIZATION, deserializationNanos);
+        return out.toString();
+    }
+
+    private static void appendPhase(StringBuilder out, TimingPhase phase, long nanos) {
+        if (nanos >= 0) {
+            out.append(out.charAt(out.length() - 1) == ':' ? " " : ", ").append(phase.getLabel())
+                .append(String.format(Locale.ROOT, " %.2f ms", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1)));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+}
@@ -0,0 +1,48 @@
+package com.kulebiakin.api.metrics;
+
+import lombok.Getter;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Histograms of one method and endpoint template, one per {@link TimingPhase}, in microseconds.
+ */
+public final class EndpointTimings {
+
+    // 1 µs to 10 minutes at 2 significant digits keeps each histogram at a few KB
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    @Getter
+    private final String method;
+    @Getter
+    private final String endpoint;
+    private final ConcurrentHistogram[] histograms = new ConcurrentHistogram[TimingPhase.values().length];
+
+    EndpointTimings(String method, String endpoint) {
+        this.method = method;
+        this.endpoint = endpoint;
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 2);
+        }
+    }
+
+    void record(TimingPhase phase, long nanos) {
+        long micros = Math.min(Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos)), HIGHEST_TRACKABLE_MICROS);
+        histograms[phase.ordinal()].recordValue(micros);
+    }
+
+    public Histogram getHistogram(TimingPhase phase) {
+        return histograms[phase.ordinal()].copy();
+    }
+
+    public long getCount(TimingPhase phase) {
+        return histograms[phase.ordinal()].getTotalCount();
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + endpoint;
+    }
+}
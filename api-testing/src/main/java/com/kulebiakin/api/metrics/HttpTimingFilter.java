@@ -0,0 +1,51 @@
+package com.kulebiakin.api.metrics;
+
+import com.kulebiakin.api.cache.ResponseCache;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+
+/**
+ * Outermost RestAssured filter of an {@link com.kulebiakin.api.core.ApiClient}: records each call into
+ * {@link HttpTimings} under its method and endpoint template ({@code GET /posts/{id}}). Responses served by the
+ * response cache or a cassette only get a total time.
+ */
+public class HttpTimingFilter implements OrderedFilter {
+
+    private final HttpTimings timings;
+
+    public HttpTimingFilter(HttpTimings timings) {
+        this.timings = timings;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext context) {
+        String endpoint = ResponseCache.endpointOf(URI.create(requestSpec.getURI()).getRawPath());
+        CallTiming call = CallTiming.begin(timings.endpoint(requestSpec.getMethod(), endpoint));
+        // The response keeps the request's config, so its as(...) reports to this call and no other
+        RestAssuredConfig config = requestSpec.getConfig();
+        requestSpec.config(config.objectMapperConfig(
+            config.getObjectMapperConfig().defaultObjectMapper(new TimingObjectMapper(call))));
+        int statusCode = -1;
+        try {
+            Response response = context.next(requestSpec, responseSpec);
+            statusCode = response.getStatusCode();
+            return response;
+        } finally {
+            CallTiming.end();
+            call.complete(statusCode);
+            HttpTimings.captured(call);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,138 @@
+package com.kulebiakin.api.metrics;
+
+import com.kulebiakin.api.core.ApiConfig;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry of {@link EndpointTimings}, keyed by method and endpoint template. Recording is a lock-free histogram
+ * update; the registry can be exported in the Prometheus text format as one summary per endpoint and phase.
+ * <p>
+ * A thread can also capture the individual calls it makes, which is how the test extension attaches the calls of
+ * a test to its Allure result.
+ */
+public final class HttpTimings {
+
+    private static final String METRIC = "api_http_request_seconds";
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final ThreadLocal<List<CallTiming>> CAPTURE = new ThreadLocal<>();
+
+    private final ConcurrentMap<String, EndpointTimings> endpoints = new ConcurrentHashMap<>();
+
+    // Registry the default ApiClient records into; written to api.metrics.prometheus, if set, when the JVM exits
+    public static HttpTimings global() {
+        return GlobalHolder.INSTANCE;
+    }
+
+    EndpointTimings endpoint(String method, String endpoint) {
+        String key = method + " " + endpoint;
+        EndpointTimings timings = endpoints.get(key);
+        return timings != null ? timings : endpoints.computeIfAbsent(key, k -> new EndpointTimings(method, endpoint));
+    }
+
+    public Optional<EndpointTimings> getEndpoint(String method, String endpoint) {
+        return Optional.ofNullable(endpoints.get(method + " " + endpoint));
+    }
+
+    public List<EndpointTimings> getEndpoints() {
+        List<EndpointTimings> sorted = new ArrayList<>(endpoints.values());
+        sorted.sort(Comparator.comparing(EndpointTimings::getEndpoint).thenComparing(EndpointTimings::getMethod));
+        return sorted;
+    }
+
+    // Starts collecting the calls made by the current thread
+    public static void beginCapture() {
+        CAPTURE.set(new ArrayList<>());
+    }
+
+    // Calls made by the current thread since beginCapture(), empty if it was not called
+    public static List<CallTiming> endCapture() {
+        List<CallTiming> calls = CAPTURE.get();
+        CAPTURE.remove();
+        return calls == null ? List.of() : calls;
+    }
+
+    static void captured(CallTiming call) {
+        List<CallTiming> calls = CAPTURE.get();
+        if (calls != null) {
+            calls.add(call);
+        }
+    }
+
+    public String toPrometheus() {
+        return toPrometheus(getEndpoints());
+    }
+
+    public void writePrometheus(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(path, toPrometheus(), StandardCharsets.UTF_8);
+    }
+
+    static String toPrometheus(Collection<EndpointTimings> endpoints) {
+        StringBuilder out = new StringBuilder()
+            .append("# HELP ").append(METRIC).append(" Phases of API calls made through the service layer\n")
+            .append("# TYPE ").append(METRIC).append(" summary\n");
+        for (EndpointTimings timings : endpoints) {
+            for (TimingPhase phase : TimingPhase.values()) {
+                Histogram histogram = timings.getHistogram(phase);
+                if (histogram.getTotalCount() == 0) {
+                    continue;
+                }
+                String labels = "method=\"" + escape(timings.getMethod()) + "\",endpoint=\"" + escape(timings.getEndpoint())
+                    + "\",phase=\"" + phase.getLabel() + "\"";
+                for (double quantile : QUANTILES) {
+                    out.append(METRIC).append('{').append(labels).append(",quantile=\"").append(quantile).append("\"} ")
+                        .append(seconds(histogram.getValueAtPercentile(quantile * 100))).append('\n');
+                }
+                out.append(METRIC).append("_sum{").append(labels).append("} ")
+                    .append(seconds(histogram.getMean() * histogram.getTotalCount())).append('\n');
+                out.append(METRIC).append("_count{").append(labels).append("} ")
+                    .append(histogram.getTotalCount()).append('\n');
+            }
+        }
+        return out.toString();
+    }
+
+    private static String seconds(double micros) {
+        return String.format(Locale.ROOT, "%.6f", micros / TimeUnit.SECONDS.toMicros(1));
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static final class GlobalHolder {
+        private static final HttpTimings INSTANCE = createGlobal();
+
+        private static HttpTimings createGlobal() {
+            HttpTimings timings = new HttpTimings();
+            if (ApiConfig.TIMINGS_PROMETHEUS_PATH != null) {
+                Path path = Path.of(ApiConfig.TIMINGS_PROMETHEUS_PATH);
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                    try {
+                        timings.writePrometheus(path);
+                    } catch (IOException e) {
+                        System.err.println("Cannot write HTTP timings to " + path + ": " + e);
+                    }
+                }, "http-timings-export"));
+            }
+            return timings;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.kulebiakin.api.metrics;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.mapper.ObjectMapperDeserializationContext;
+import io.restassured.mapper.ObjectMapperSerializationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Jackson mapper for {@code Response.as(...)} that reports how long each deserialization took to the call whose
+ * response it is. {@link HttpTimingFilter} installs one per call, so the time lands on the right call whenever
+ * and on whichever thread the response is read.
+ */
+final class TimingObjectMapper implements io.restassured.mapper.ObjectMapper {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final CallTiming call;
+
+    TimingObjectMapper(CallTiming call) {
+        this.call = call;
+    }
+
+    @Override
+    public Object deserialize(ObjectMapperDeserializationContext context) {
+        long start = System.nanoTime();
+        try {
+            return MAPPER.readValue(context.getDataToDeserialize().asInputStream(), MAPPER.constructType(context.getType()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot deserialize response to " + context.getType().getTypeName(), e);
+        } finally {
+            call.deserialized(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public Object serialize(ObjectMapperSerializationContext context) {
+        try {
+            return MAPPER.writeValueAsString(context.getObjectToSerialize());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Cannot serialize " + context.getObjectToSerialize().getClass().getName(), e);
+        }
+    }
+}
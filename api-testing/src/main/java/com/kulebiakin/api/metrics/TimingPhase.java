@@ -0,0 +1,19 @@
+package com.kulebiakin.api.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TimingPhase {
+    // Opening a new pooled connection, absent when one was reused
+    CONNECT("connect"),
+    // From the start of the call until the response headers arrived
+    TTFB("ttfb"),
+    // From the start of the call until the body was read
+    TOTAL("total"),
+    // Mapping the body to an object with Response.as(...)
+    DESERIALIZATION("deserialization");
+
+    private final String label;
+}
@@ -0,0 +1,32 @@
+package com.kulebiakin.api.extensions;
+
+import com.kulebiakin.api.metrics.CallTiming;
+import com.kulebiakin.api.metrics.HttpTimings;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Attaches the connect, time-to-first-byte, total and deserialization time of every API call a test made to
+ * its Allure result.
+ */
+public class HttpTimingExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        HttpTimings.beginCapture();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        List<CallTiming> calls = HttpTimings.endCapture();
+        if (!calls.isEmpty()) {
+            Allure.addAttachment("HTTP timings", "text/plain",
+                calls.stream().map(CallTiming::format).collect(Collectors.joining("\n")));
+        }
+    }
+}
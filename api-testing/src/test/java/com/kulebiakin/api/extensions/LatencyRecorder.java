@@ -0,0 +1,54 @@
+package com.kulebiakin.api.extensions;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-capacity recorder of latencies in nanoseconds. The sample array is allocated up front, so recording adds
+ * no garbage to the runs being measured; percentiles sort it in place.
+ */
+public final class LatencyRecorder {
+
+    private final long[] samples;
+    private int count;
+    private boolean sorted;
+
+    public LatencyRecorder(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.samples = new long[capacity];
+    }
+
+    public void record(long nanos) {
+        if (count == samples.length) {
+            throw new IllegalStateException("Recorder is full at " + samples.length + " samples");
+        }
+        samples[count++] = nanos;
+        sorted = false;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    // Nearest-rank percentile: the smallest sample with at least percentile% of the samples at or below it
+    public long percentile(double percentile) {
+        if (count == 0) {
+            throw new IllegalStateException("No samples recorded");
+        }
+        if (!sorted) {
+            Arrays.sort(samples, 0, count);
+            sorted = true;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * count);
+        return samples[Math.min(Math.max(rank, 1), count) - 1];
+    }
+
+    public long min() {
+        return percentile(0);
+    }
+
+    public long max() {
+        return percentile(100);
+    }
+}
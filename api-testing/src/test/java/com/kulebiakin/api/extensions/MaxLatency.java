@@ -0,0 +1,34 @@
+package com.kulebiakin.api.extensions;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Latency budget of a test: the test method is run {@code warmup} times unmeasured and then {@code samples} times
+ * measured, and fails if a percentile of the measured runs exceeds its budget. Budgets are durations such as
+ * {@code "200ms"}, {@code "1.5s"} or {@code "800us"}; an empty budget is not checked. Fixtures ({@code @BeforeEach}
+ * and friends) run once around all repetitions.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(MaxLatencyExtension.class)
+public @interface MaxLatency {
+
+    String p50() default "";
+
+    String p90() default "";
+
+    String p95() default "";
+
+    String p99() default "";
+
+    String max() default "";
+
+    int warmup() default 3;
+
+    int samples() default 50;
+}
@@ -0,0 +1,134 @@
+package com.kulebiakin.api.extensions;
+
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.opentest4j.AssertionFailedError;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs a {@link MaxLatency} test repeatedly, times each run and checks the percentiles of the measured runs against
+ * the budgets. The breakdown is attached to the Allure result and is the failure message when a budget is exceeded.
+ */
+public class MaxLatencyExtension implements InvocationInterceptor {
+
+    private static final Pattern DURATION = Pattern.compile("(\\d+(?:\\.\\d+)?)\\s*(ns|us|ms|s)");
+
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                    ExtensionContext extensionContext) throws Throwable {
+        MaxLatency budget = invocationContext.getExecutable().getAnnotation(MaxLatency.class);
+        if (budget.samples() <= 0 || budget.warmup() < 0) {
+            throw new IllegalArgumentException("@MaxLatency needs samples > 0 and warmup >= 0 on "
+                + invocationContext.getExecutable().getName());
+        }
+        Map<String, Long> budgets = budgetsOf(budget);
+        // The original invocation can only proceed once; it is skipped and the method invoked directly instead
+        invocation.skip();
+
+        for (int i = 0; i < budget.warmup(); i++) {
+            invoke(invocationContext);
+        }
+        LatencyRecorder recorder = new LatencyRecorder(budget.samples());
+        for (int i = 0; i < budget.samples(); i++) {
+            long start = System.nanoTime();
+            invoke(invocationContext);
+            recorder.record(System.nanoTime() - start);
+        }
+
+        String breakdown = breakdown(recorder, budget);
+        Allure.addAttachment("Latency", "text/plain", breakdown);
+        StringBuilder exceeded = new StringBuilder();
+        for (Map.Entry<String, Long> entry : budgets.entrySet()) {
+            long actual = valueOf(recorder, entry.getKey());
+            if (actual > entry.getValue()) {
+                exceeded.append(exceeded.length() == 0 ? "" : ", ").append(entry.getKey()).append(' ')
+                    .append(millis(actual)).append(" > ").append(millis(entry.getValue()));
+            }
+        }
+        if (exceeded.length() > 0) {
+            throw new AssertionFailedError("Latency budget exceeded: " + exceeded + "\n" + breakdown);
+        }
+    }
+
+    private static void invoke(ReflectiveInvocationContext<Method> context) throws Throwable {
+        Method method = context.getExecutable();
+        method.setAccessible(true);
+        try {
+            method.invoke(context.getTarget().orElse(null), context.getArguments().toArray());
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Map<String, Long> budgetsOf(MaxLatency budget) {
+        Map<String, Long> budgets = new LinkedHashMap<>();
+        putIfSet(budgets, "p50", budget.p50());
+        putIfSet(budgets, "p90", budget.p90());
+        putIfSet(budgets, "p95", budget.p95());
+        putIfSet(budgets, "p99", budget.p99());
+        putIfSet(budgets, "max", budget.max());
+        return budgets;
+    }
+
+    private static void putIfSet(Map<String, Long> budgets, String name, String value) {
+        if (!value.isBlank()) {
+            budgets.put(name, parseNanos(value));
+        }
+    }
+
+    // "200ms" -> 200_000_000
+    static long parseNanos(String value) {
+        Matcher matcher = DURATION.matcher(value.trim());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Invalid latency budget '" + value + "', expected e.g. 200ms, 1.5s or 800us");
+        }
+        double amount = Double.parseDouble(matcher.group(1));
+        switch (matcher.group(2)) {
+            case "ns":
+                return (long) amount;
+            case "us":
+                return (long) (amount * TimeUnit.MICROSECONDS.toNanos(1));
+            case "ms":
+                return (long) (amount * TimeUnit.MILLISECONDS.toNanos(1));
+            default:
+                return (long) (amount * TimeUnit.SECONDS.toNanos(1));
+        }
+    }
+
+    private static long valueOf(LatencyRecorder recorder, String name) {
+        switch (name) {
+            case "p50":
+                return recorder.percentile(50);
+            case "p90":
+                return recorder.percentile(90);
+            case "p95":
+                return recorder.percentile(95);
+            case "p99":
+                return recorder.percentile(99);
+            default:
+                return recorder.max();
+        }
+    }
+
+    // "50 samples after 3 warmup runs: min 1.02 ms, p50 1.31 ms, p90 ..., max 4.80 ms"
+    private static String breakdown(LatencyRecorder recorder, MaxLatency budget) {
+        return recorder.getCount() + " samples after " + budget.warmup() + " warmup runs: min " + millis(recorder.min())
+            + ", p50 " + millis(recorder.percentile(50)) + ", p90 " + millis(recorder.percentile(90))
+            + ", p95 " + millis(recorder.percentile(95)) + ", p99 " + millis(recorder.percentile(99))
+            + ", max " + millis(recorder.max());
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f ms", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,46 @@
+package com.kulebiakin.api.extensions;
+
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Prints the wall-clock time of the whole test run, so serial and parallel runs can be compared:
+ * {@code mvn test -Djunit.jupiter.execution.parallel.enabled=false} against a plain {@code mvn test}.
+ * Registered through {@code META-INF/services}.
+ */
+public class SuiteTimingListener implements TestExecutionListener {
+
+    private final AtomicInteger tests = new AtomicInteger();
+    private long startNanos;
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        tests.set(0);
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        if (testIdentifier.isTest()) {
+            tests.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        ConfigurationParameters parameters = testPlan.getConfigurationParameters();
+        boolean parallel = parameters.getBoolean("junit.jupiter.execution.parallel.enabled").orElse(false);
+        String mode = parallel
+            ? "parallel, " + parameters.get("junit.jupiter.execution.parallel.config.fixed.parallelism").orElse("?") + " threads"
+            : "serial";
+        System.out.printf(Locale.ROOT, "[suite] %d tests finished in %.1f s wall clock (%s)%n", tests.get(), millis / 1000.0, mode);
+    }
+}
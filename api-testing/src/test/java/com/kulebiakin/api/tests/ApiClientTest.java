@@ -0,0 +1,151 @@
+package com.kulebiakin.api.tests;
+
+import com.kulebiakin.api.core.ApiClient;
+import com.kulebiakin.api.core.ApiClientConfig;
+import com.kulebiakin.api.core.ConnectionStats;
+import com.kulebiakin.api.domain.model.Post;
+import com.kulebiakin.api.domain.service.PostService;
+import com.kulebiakin.api.domain.service.UserService;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+@DisplayName("Pooled API Client Tests")
+class ApiClientTest {
+
+    private HttpServer server;
+    private ApiClient client;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = "[{\"id\":1,\"name\":\"Leanne Graham\"}]".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        client = ApiClient.create(ApiClientConfig.builder()
+            .baseUri("http://localhost:" + server.getAddress().getPort())
+            .maxConnections(4)
+            .maxConnectionsPerRoute(4)
+            .build());
+    }
+
+    @AfterEach
+    void stopServer() {
+        client.close();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Sequential requests should reuse a single pooled connection")
+    void sequentialRequestsShouldReuseConnection() {
+        UserService userService = new UserService(client.getSpec());
+
+        for (int i = 0; i < 20; i++) {
+            Response response = userService.getAllUsers();
+            assertThat(response.getStatusCode()).isEqualTo(200);
+            assertThat(response.jsonPath().getString("[0].name")).isEqualTo("Leanne Graham");
+        }
+
+        ConnectionStats stats = client.getConnectionStats();
+        assertSoftly(softly -> {
+            softly.assertThat(stats.getRequests()).isEqualTo(20);
+            softly.assertThat(stats.getConnectionsOpened()).isEqualTo(1);
+            softly.assertThat(stats.getLeased()).isZero();
+            softly.assertThat(stats.getAvailable()).isEqualTo(1);
+            softly.assertThat(stats.getMax()).isEqualTo(4);
+            softly.assertThat(stats.getReuseRatio()).isEqualTo(0.95);
+        });
+    }
+
+    @Test
+    @DisplayName("Responses read only for their status should not exhaust the pool")
+    void unreadResponsesShouldReleaseConnections() {
+        UserService userService = new UserService(client.getSpec());
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(userService.getAllUsers().getStatusCode()).isEqualTo(200);
+        }
+
+        assertThat(client.getConnectionStats().getLeased()).isZero();
+        assertThat(client.getConnectionStats().getConnectionsOpened()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("POSTs should not fail on keep-alive connections the server has closed")
+    void postsShouldSurviveServerClosingIdleConnections() throws Exception {
+        try (ServerSocket oneShot = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+             ApiClient oneShotClient = ApiClient.create(ApiClientConfig.builder()
+                 .baseUri("http://localhost:" + oneShot.getLocalPort())
+                 .build())) {
+            Thread serverThread = new Thread(() -> serveOneRequestPerConnection(oneShot));
+            serverThread.setDaemon(true);
+            serverThread.start();
+            PostService postService = new PostService(oneShotClient.getSpec());
+
+            for (int i = 0; i < 3; i++) {
+                assertThat(postService.createPost(new Post(1, "title", "body")).getStatusCode()).isEqualTo(201);
+                // Let the server's close reach the pooled connection before it is reused
+                Thread.sleep(50);
+            }
+            assertThat(oneShotClient.getConnectionStats().getConnectionsOpened()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    @DisplayName("Base URI from the client config should be used by the services")
+    void servicesShouldUseConfiguredBaseUri() {
+        Response response = new UserService(client.getSpec()).getUserById(1);
+
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(client.getConnectionStats().getRequests()).isEqualTo(1);
+    }
+
+    // Answers one request per connection as keep-alive, then closes it the way an idle timeout would
+    private static void serveOneRequestPerConnection(ServerSocket serverSocket) {
+        while (!serverSocket.isClosed()) {
+            try (Socket socket = serverSocket.accept()) {
+                BufferedReader in = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+                int contentLength = 0;
+                for (String line = in.readLine(); line != null && !line.isEmpty(); line = in.readLine()) {
+                    if (line.toLowerCase(Locale.ROOT).startsWith("content-length:")) {
+                        contentLength = Integer.parseInt(line.substring(15).trim());
+                    }
+                }
+                in.skip(contentLength);
+                byte[] body = "{\"id\":101}".getBytes(StandardCharsets.UTF_8);
+                OutputStream out = socket.getOutputStream();
+                out.write(("HTTP/1.1 201 Created\r\nContent-Type: application/json\r\nContent-Length: " + body.length
+                    + "\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1));
+                out.write(body);
+                out.flush();
+            } catch (IOException e) {
+                // closed
+            }
+        }
+    }
+}
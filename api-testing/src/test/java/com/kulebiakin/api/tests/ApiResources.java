@@ -0,0 +1,13 @@
+package com.kulebiakin.api.tests;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Backend state shared by concurrently running tests, for {@code @ResourceLock}: tests that create, update or
+ * delete in a collection lock it {@code READ_WRITE}, tests asserting on its contents lock it {@code READ}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ApiResources {
+    static final String POSTS = "api.posts";
+}
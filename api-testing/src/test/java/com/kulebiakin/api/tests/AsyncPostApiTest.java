@@ -0,0 +1,115 @@
+package com.kulebiakin.api.tests;
+
+import com.kulebiakin.api.core.ApiStatusException;
+import com.kulebiakin.api.domain.model.Post;
+import com.kulebiakin.api.domain.service.AsyncPostService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+@DisplayName("Async Posts API Tests")
+class AsyncPostApiTest {
+
+    private final AsyncPostService postService = new AsyncPostService();
+
+    // Positive Tests
+    @Test
+    @DisplayName("GET /posts - should complete with all posts")
+    void getAllPostsShouldReturnAllPosts() {
+        List<Post> posts = postService.getAllPosts().join();
+
+        assertThat(posts).isNotEmpty();
+        var firstPost = posts.get(0);
+        assertSoftly(softly -> {
+            softly.assertThat(firstPost.getId()).isNotNull();
+            softly.assertThat(firstPost.getUserId()).isNotNull();
+            softly.assertThat(firstPost.getTitle()).isNotBlank();
+            softly.assertThat(firstPost.getBody()).isNotBlank();
+        });
+    }
+
+    @Test
+    @DisplayName("GET /posts - streamed posts should match the materialized list")
+    void streamAllPostsShouldMatchGetAllPosts() {
+        List<Post> posts = postService.getAllPosts().join();
+
+        try (Stream<Post> stream = postService.streamAllPosts().join()) {
+            assertThat(stream.collect(Collectors.toList())).isEqualTo(posts);
+        }
+    }
+
+    @Test
+    @DisplayName("GET /posts/{id} - concurrent requests should complete with matching posts")
+    void concurrentGetPostByIdShouldReturnMatchingPosts() {
+        List<CompletableFuture<Post>> futures = IntStream.rangeClosed(1, 20)
+            .mapToObj(postService::getPostById)
+            .collect(Collectors.toList());
+
+        List<Integer> ids = futures.stream().map(CompletableFuture::join).map(Post::getId).collect(Collectors.toList());
+        assertThat(ids).containsExactlyElementsOf(IntStream.rangeClosed(1, 20).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("POST /posts - should complete with the created post")
+    void createPostShouldReturnCreatedPost() {
+        var newPost = new Post(1, "Test Title", "Test Body Content");
+        var createdPost = postService.createPost(newPost).join();
+
+        assertSoftly(softly -> {
+            softly.assertThat(createdPost.getId()).isNotNull();
+            softly.assertThat(createdPost.getUserId()).isEqualTo(newPost.getUserId());
+            softly.assertThat(createdPost.getTitle()).isEqualTo(newPost.getTitle());
+            softly.assertThat(createdPost.getBody()).isEqualTo(newPost.getBody());
+        });
+    }
+
+    @Test
+    @DisplayName("PUT /posts/{id} - should complete with the updated post")
+    void updatePostShouldReturnUpdatedPost() {
+        var updatedPost = new Post(1, "Updated Title", "Updated Body");
+        var resultPost = postService.updatePost(1, updatedPost).join();
+
+        assertSoftly(softly -> {
+            softly.assertThat(resultPost.getId()).isEqualTo(1);
+            softly.assertThat(resultPost.getTitle()).isEqualTo(updatedPost.getTitle());
+            softly.assertThat(resultPost.getBody()).isEqualTo(updatedPost.getBody());
+        });
+    }
+
+    @Test
+    @DisplayName("DELETE /posts/{id} - should complete normally")
+    void deletePostShouldComplete() {
+        assertThat(postService.deletePost(1)).succeedsWithin(Duration.ofSeconds(10));
+    }
+
+    // Negative Tests
+    @Test
+    @DisplayName("GET /posts/{id} - should fail with 404 for non-existent ID")
+    void getPostByIdWithInvalidIdShouldFailWithNotFound() {
+        assertThat(postService.getPostById(99999))
+            .failsWithin(Duration.ofSeconds(10))
+            .withThrowableOfType(ExecutionException.class)
+            .havingCause()
+            .isInstanceOfSatisfying(ApiStatusException.class, e -> assertThat(e.getStatusCode()).isEqualTo(404));
+    }
+
+    @Test
+    @DisplayName("GET /posts/{id} - should fail with 404 for non-numeric ID")
+    void getPostByIdWithNonNumericIdShouldFailWithNotFound() {
+        assertThat(postService.getPostById("abc"))
+            .failsWithin(Duration.ofSeconds(10))
+            .withThrowableOfType(ExecutionException.class)
+            .havingCause()
+            .isInstanceOfSatisfying(ApiStatusException.class, e -> assertThat(e.getStatusCode()).isEqualTo(404));
+    }
+}
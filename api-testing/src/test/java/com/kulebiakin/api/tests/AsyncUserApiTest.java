@@ -0,0 +1,97 @@
+package com.kulebiakin.api.tests;
+
+import com.kulebiakin.api.core.ApiStatusException;
+import com.kulebiakin.api.domain.model.Post;
+import com.kulebiakin.api.domain.model.User;
+import com.kulebiakin.api.domain.service.AsyncUserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+@DisplayName("Async Users API Tests")
+class AsyncUserApiTest {
+
+    private final AsyncUserService userService = new AsyncUserService();
+
+    // Positive Tests
+    @Test
+    @DisplayName("GET /users - should complete with all users")
+    void getAllUsersShouldReturnAllUsers() {
+        List<User> users = userService.getAllUsers().join();
+
+        assertThat(users).isNotEmpty();
+        var firstUser = users.get(0);
+        assertSoftly(softly -> {
+            softly.assertThat(firstUser.getId()).isNotNull();
+            softly.assertThat(firstUser.getName()).isNotBlank();
+            softly.assertThat(firstUser.getUsername()).isNotBlank();
+            softly.assertThat(firstUser.getEmail()).isNotBlank();
+        });
+    }
+
+    @Test
+    @DisplayName("GET /users - streamed users should match the materialized list")
+    void streamAllUsersShouldMatchGetAllUsers() {
+        List<User> users = userService.getAllUsers().join();
+
+        try (Stream<User> stream = userService.streamAllUsers().join()) {
+            assertThat(stream.collect(Collectors.toList())).isEqualTo(users);
+        }
+    }
+
+    @Test
+    @DisplayName("GET /users/{id} - should complete with nested address and company")
+    void getUserByIdShouldReturnUser() {
+        var user = userService.getUserById(1).join();
+
+        assertSoftly(softly -> {
+            softly.assertThat(user.getId()).isEqualTo(1);
+            softly.assertThat(user.getAddress()).isNotNull();
+            softly.assertThat(user.getAddress().getGeo()).isNotNull();
+            softly.assertThat(user.getCompany()).isNotNull();
+        });
+    }
+
+    @Test
+    @DisplayName("GET /users/{id}/posts - should complete with the user's posts")
+    void getUserPostsShouldReturnPostsOfUser() {
+        List<Post> posts = userService.getUserPosts(1).join();
+
+        assertThat(posts).isNotEmpty().allSatisfy(post -> assertThat(post.getUserId()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("GET /users/{id}/posts - streamed posts should belong to the user")
+    void streamUserPostsShouldReturnPostsOfUser() {
+        try (Stream<Post> stream = userService.streamUserPosts(1).join()) {
+            assertThat(stream.collect(Collectors.toList()))
+                .isNotEmpty()
+                .allSatisfy(post -> assertThat(post.getUserId()).isEqualTo(1));
+        }
+    }
+
+    // Negative Tests
+    @Test
+    @DisplayName("GET /users/{id} - should fail with 404 for non-existent user")
+    void getUserByIdWithInvalidIdShouldFailWithNotFound() {
+        assertThat(userService.getUserById(99999))
+            .failsWithin(Duration.ofSeconds(10))
+            .withThrowableOfType(ExecutionException.class)
+            .havingCause()
+            .isInstanceOfSatisfying(ApiStatusException.class, e -> assertThat(e.getStatusCode()).isEqualTo(404));
+    }
+
+    @Test
+    @DisplayName("GET /users/{id}/posts - should complete with empty list for user with no posts")
+    void getUserPostsForInvalidUserShouldReturnEmptyList() {
+        assertThat(userService.getUserPosts(99999).join()).isEmpty();
+    }
+}
@@ -0,0 +1,141 @@
+package com.kulebiakin.api.tests;
+
+import com.kulebiakin.api.cassette.Cassette;
+import com.kulebiakin.api.cassette.CassetteMissException;
+import com.kulebiakin.api.cassette.CassetteMode;
+import com.kulebiakin.api.core.ApiClient;
+import com.kulebiakin.api.core.ApiClientConfig;
+import com.kulebiakin.api.domain.model.Post;
+import com.kulebiakin.api.domain.service.PostService;
+import com.kulebiakin.api.domain.service.UserService;
+import com.kulebiakin.api.fake.FakeApiServer;
+import com.kulebiakin.api.fake.FakeApiServerConfig;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+@DisplayName("Record/Replay Cassette Tests")
+class CassetteTest {
+
+    // Nothing listens here once the fake server used for recording is closed
+    private static final String UNREACHABLE = "http://localhost:1";
+
+    @TempDir
+    Path dir;
+    private Path cassettePath;
+    private final List<Response> recorded = new ArrayList<>();
+
+    @BeforeEach
+    void record() throws IOException {
+        cassettePath = dir.resolve("posts.cassette");
+        try (FakeApiServer server = FakeApiServer.start(FakeApiServerConfig.builder().build());
+             ApiClient client = client(server.getBaseUrl(), CassetteMode.RECORD)) {
+            PostService postService = new PostService(client.getSpec());
+            recorded.add(postService.getAllPosts());
+            recorded.add(postService.getPostById(1));
+            recorded.add(postService.getPostById(99999));
+            recorded.add(postService.createPost(new Post(1, "Recorded", "Body")));
+            recorded.add(new UserService(client.getSpec()).getUserById(1));
+        }
+    }
+
+    private ApiClient client(String baseUri, CassetteMode mode) {
+        return ApiClient.create(ApiClientConfig.builder()
+            .baseUri(baseUri)
+            .cassettePath(cassettePath.toString())
+            .cassetteMode(mode)
+            .build());
+    }
+
+    @Test
+    @DisplayName("Replay should return recorded responses byte-for-byte without the backend")
+    void replayShouldReturnRecordedResponses() {
+        try (ApiClient client = client(UNREACHABLE, CassetteMode.REPLAY)) {
+            PostService postService = new PostService(client.getSpec());
+            List<Response> replayed = List.of(
+                postService.getAllPosts(),
+                postService.getPostById(1),
+                postService.getPostById(99999),
+                postService.createPost(new Post(1, "Recorded", "Body")),
+                new UserService(client.getSpec()).getUserById(1));
+
+            assertSoftly(softly -> {
+                for (int i = 0; i < recorded.size(); i++) {
+                    softly.assertThat(replayed.get(i).getStatusCode()).isEqualTo(recorded.get(i).getStatusCode());
+                    softly.assertThat(replayed.get(i).getContentType()).isEqualTo(recorded.get(i).getContentType());
+                    softly.assertThat(replayed.get(i).asByteArray()).isEqualTo(recorded.get(i).asByteArray());
+                }
+                softly.assertThat(replayed.get(3).jsonPath().getInt("id")).isEqualTo(101);
+                softly.assertThat(client.getConnectionStats().getRequests()).isZero();
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("A cassette mode without a cassette file should be rejected")
+    void cassetteModeShouldRequireFile() {
+        ApiClientConfig config = ApiClientConfig.builder()
+            .baseUri(UNREACHABLE)
+            .cassettePath(null)
+            .cassetteMode(CassetteMode.REPLAY)
+            .build();
+
+        assertThatThrownBy(() -> ApiClient.create(config))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("-Dapi.cassette=");
+    }
+
+    @Test
+    @DisplayName("Request bodies should be part of the key")
+    void differentBodyShouldMiss() {
+        try (ApiClient client = client(UNREACHABLE, CassetteMode.REPLAY)) {
+            PostService postService = new PostService(client.getSpec());
+
+            assertThatThrownBy(() -> postService.createPost(new Post(1, "Other", "Body")))
+                .isInstanceOf(CassetteMissException.class)
+                .hasMessageContaining("POST /posts with body sha256");
+        }
+    }
+
+    @Test
+    @DisplayName("Unrecorded requests should fail with a clear miss")
+    void unrecordedRequestShouldMiss() {
+        try (ApiClient client = client(UNREACHABLE, CassetteMode.REPLAY)) {
+            assertThatThrownBy(() -> new UserService(client.getSpec()).getUserPosts(1))
+                .isInstanceOf(CassetteMissException.class)
+                .hasMessageContaining("GET /users/1/posts")
+                .hasMessageContaining(cassettePath.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Cassette should be mapped on first lookup only and replay in microseconds")
+    void cassetteShouldLoadLazilyAndReplayFast() throws IOException {
+        try (Cassette cassette = Cassette.open(cassettePath, CassetteMode.REPLAY)) {
+            assertThat(cassette.isLoaded()).isFalse();
+
+            cassette.find("GET", "/posts", "").toResponse();
+            assertThat(cassette.isLoaded()).isTrue();
+
+            int lookups = 20_000;
+            long start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                cassette.find("GET", "/posts/1", "").toResponse();
+            }
+            double micros = (System.nanoTime() - start) / 1_000.0 / lookups;
+
+            assertThat(micros).isLessThan(100);
+        }
+    }
+}
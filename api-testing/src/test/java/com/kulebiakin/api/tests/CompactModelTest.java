@@ -0,0 +1,185 @@
+package com.kulebiakin.api.tests;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.kulebiakin.api.core.ApiClient;
+import com.kulebiakin.api.domain.model.Post;
+import com.kulebiakin.api.domain.model.PostRecord;
+import com.kulebiakin.api.domain.model.StringPool;
+import com.kulebiakin.api.domain.model.User;
+import com.kulebiakin.api.domain.model.UserRecord;
+import com.kulebiakin.api.domain.service.PostService;
+import com.kulebiakin.api.domain.service.UserService;
+import com.kulebiakin.api.fake.FakeApiServer;
+import com.kulebiakin.api.fake.FakeApiServerConfig;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import static com.kulebiakin.api.tests.FakeClients.clientOf;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+@DisplayName("Compact Model Tests")
+class CompactModelTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int COPIES = 1000;
+    private static JsonNode users;
+
+    @BeforeAll
+    static void loadUsers() throws IOException {
+        try (InputStream in = FakeApiServer.class.getResourceAsStream("/fake/users.json")) {
+            users = MAPPER.readTree(in);
+        }
+    }
+
+    // The 10 users repeated COPIES times, each copy with its own id, name, contact, street, suite, zip code and
+    // company slogans as in real data; only the 10 cities and 10 company names repeat
+    private static byte[] manyUsers() throws IOException {
+        ArrayNode array = MAPPER.createArrayNode();
+        for (int copy = 0; copy < COPIES; copy++) {
+            for (JsonNode user : users) {
+                int id = copy * users.size() + user.get("id").asInt();
+                ObjectNode node = user.deepCopy();
+                node.put("id", id);
+                for (String field : List.of("name", "username", "email", "phone")) {
+                    node.put(field, node.get(field).asText() + id);
+                }
+                ObjectNode address = (ObjectNode) node.get("address");
+                for (String field : List.of("street", "suite", "zipcode")) {
+                    address.put(field, address.get(field).asText() + " " + id);
+                }
+                ObjectNode company = (ObjectNode) node.get("company");
+                for (String field : List.of("catchPhrase", "bs")) {
+                    company.put(field, company.get(field).asText() + " " + id);
+                }
+                array.add(node);
+            }
+        }
+        return MAPPER.writeValueAsBytes(array);
+    }
+
+    @Test
+    @DisplayName("Records should decode the same data as the beans from API responses")
+    void recordsShouldDecodeSameDataAsBeans() throws IOException {
+        try (FakeApiServer server = FakeApiServer.start(FakeApiServerConfig.builder().build());
+             ApiClient client = clientOf(server)) {
+            PostService postService = new PostService(client.getSpec());
+            UserService userService = new UserService(client.getSpec());
+
+            List<PostRecord> posts = Arrays.asList(postService.getAllPosts().as(PostRecord[].class));
+            List<Post> postBeans = Arrays.asList(postService.getAllPosts().as(Post[].class));
+            List<UserRecord> userRecords = Arrays.asList(userService.getAllUsers().as(UserRecord[].class));
+            List<User> userBeans = Arrays.asList(userService.getAllUsers().as(User[].class));
+
+            assertThat(posts).hasSize(100).isEqualTo(postBeans.stream().map(PostRecord::from).toList());
+            assertThat(userRecords).hasSize(10).isEqualTo(userBeans.stream().map(UserRecord::from).toList());
+            assertSoftly(softly -> {
+                UserRecord leanne = userRecords.get(0);
+                softly.assertThat(leanne.id()).isEqualTo(1);
+                softly.assertThat(leanne.city()).isEqualTo("Gwenborough");
+                softly.assertThat(leanne.lat()).isEqualTo(-37.3159);
+                softly.assertThat(leanne.lng()).isEqualTo(81.1496);
+                softly.assertThat(leanne.companyName()).isEqualTo("Romaguera-Crona");
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("Records should convert unsaved beans without ids or coordinates like the JSON decoder")
+    void recordsShouldConvertUnsavedBeans() throws IOException {
+        User user = new User();
+        user.setName("Unsaved");
+        user.setAddress(new User.Address());
+        user.getAddress().setGeo(new User.Geo());
+
+        PostRecord post = PostRecord.from(new Post(1, "title", "body"));
+        UserRecord record = UserRecord.from(user);
+
+        assertThat(post).isEqualTo(
+            MAPPER.readValue("{\"userId\":1,\"title\":\"title\",\"body\":\"body\"}", PostRecord.class));
+        assertThat(record).isEqualTo(MAPPER.readValue("{\"name\":\"Unsaved\"}", UserRecord.class));
+        assertThat(record.id()).isZero();
+        assertThat(record.lat()).isZero();
+
+        user.getAddress().getGeo().setLat("north");
+        assertThatThrownBy(() -> UserRecord.from(user))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("north");
+    }
+
+    @Test
+    @DisplayName("String pool should make repeated cities and companies share one instance")
+    void stringPoolShouldDeduplicateRepeatedStrings() throws IOException {
+        byte[] json = manyUsers();
+        StringPool pool = new StringPool();
+
+        List<UserRecord> pooled = MAPPER.readerFor(new TypeReference<List<UserRecord>>() { })
+            .withAttribute(StringPool.class, pool)
+            .readValue(json);
+        List<UserRecord> plain = MAPPER.readValue(json, new TypeReference<List<UserRecord>>() { });
+
+        assertSoftly(softly -> {
+            softly.assertThat(pooled).hasSize(COPIES * 10).isEqualTo(plain);
+            softly.assertThat(pooled.get(0).city()).isSameAs(pooled.get(10).city());
+            softly.assertThat(pooled.get(0).companyName()).isSameAs(pooled.get(10).companyName());
+            softly.assertThat(plain.get(0).city()).isNotSameAs(plain.get(10).city());
+            // Only the 10 cities and 10 company names are held, not the per-user streets and slogans
+            softly.assertThat(pool.size()).isEqualTo(20);
+        });
+    }
+
+    @Test
+    @DisplayName("Records should take less heap per instance than the beans")
+    void recordsShouldHaveSmallerFootprint() throws IOException {
+        byte[] json = manyUsers();
+        List<User> beans = MAPPER.readValue(json, new TypeReference<List<User>>() { });
+        List<UserRecord> records = MAPPER.readValue(json, new TypeReference<List<UserRecord>>() { });
+        StringPool pool = new StringPool();
+        List<UserRecord> pooled = MAPPER.readerFor(new TypeReference<List<UserRecord>>() { })
+            .withAttribute(StringPool.class, pool)
+            .readValue(json);
+        List<Post> postBeans = Arrays.asList(MAPPER.readValue(postsJson(), Post[].class));
+        List<PostRecord> postRecords = Arrays.asList(MAPPER.readValue(postsJson(), PostRecord[].class));
+
+        long beanBytes = GraphLayout.parseInstance(beans.toArray()).totalSize() / beans.size();
+        long recordBytes = GraphLayout.parseInstance(records.toArray()).totalSize() / records.size();
+        // The pool keeps its strings alive, so its map is part of the pooled footprint
+        long pooledBytes = GraphLayout.parseInstance(pooled.toArray(), pool).totalSize() / pooled.size();
+        long postBeanBytes = GraphLayout.parseInstance(postBeans.toArray()).totalSize() / postBeans.size();
+        long postRecordBytes = GraphLayout.parseInstance(postRecords.toArray()).totalSize() / postRecords.size();
+        Allure.addAttachment("Footprint", "text/plain", String.format(Locale.ROOT,
+            "Bytes per instance, including strings and the string pool:%n"
+                + "User bean %d, UserRecord %d, UserRecord pooled %d%nPost bean %d, PostRecord %d%n",
+            beanBytes, recordBytes, pooledBytes, postBeanBytes, postRecordBytes));
+
+        assertSoftly(softly -> {
+            // Dropping Address, Geo, Company, two coordinate strings and the boxed id
+            softly.assertThat(recordBytes).isLessThan(beanBytes * 9 / 10);
+            // Cities and company names are shared by the users, even counting the pool
+            softly.assertThat(pooledBytes).isLessThan(recordBytes * 9 / 10);
+            softly.assertThat(postRecordBytes).isLessThanOrEqualTo(postBeanBytes);
+        });
+    }
+
+    private static byte[] postsJson() throws IOException {
+        ArrayNode posts = MAPPER.createArrayNode();
+        for (int id = 1; id <= 1000; id++) {
+            posts.addObject().put("id", id).put("userId", 1 + id % 10).put("title", "title " + id).put("body", "body " + id);
+        }
+        return MAPPER.writeValueAsBytes(posts);
+    }
+}
@@ -0,0 +1,135 @@
+package com.kulebiakin.api.tests;
+
+import com.kulebiakin.api.core.ApiClient;
+import com.kulebiakin.api.core.ApiClientConfig;
+import com.kulebiakin.api.core.AsyncApiClient;
+import com.kulebiakin.api.domain.model.Post;
+import com.kulebiakin.api.domain.model.User;
+import com.kulebiakin.api.domain.service.AsyncPostService;
+import com.kulebiakin.api.domain.service.PostService;
+import com.kulebiakin.api.domain.service.UserService;
+import com.kulebiakin.api.fake.FakeApiServer;
+import com.kulebiakin.api.fake.FakeApiServerConfig;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.kulebiakin.api.tests.FakeClients.clientOf;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+// Measures throughput; runs alone so concurrently executing test classes do not skew it
+@DisplayName("Fake JSONPlaceholder Server Tests")
+@Isolated
+class FakeApiServerTest {
+
+    @Test
+    @DisplayName("Dataset should have 100 posts and 10 users with posts split by user")
+    void datasetShouldMatchRealService() throws IOException {
+        try (FakeApiServer server = FakeApiServer.start(FakeApiServerConfig.builder().build()); ApiClient client = clientOf(server)) {
+            List<Post> posts = new PostService(client.getSpec()).getAllPosts().jsonPath().getList(".", Post.class);
+            List<User> users = new UserService(client.getSpec()).getAllUsers().jsonPath().getList(".", User.class);
+            List<Post> userPosts = new UserService(client.getSpec()).getUserPosts(3).jsonPath().getList(".", Post.class);
+
+            assertSoftly(softly -> {
+                softly.assertThat(posts).hasSize(100);
+                softly.assertThat(users).hasSize(10);
+                softly.assertThat(users.get(0).getName()).isEqualTo("Leanne Graham");
+                softly.assertThat(userPosts).hasSize(10).allSatisfy(post -> assertThat(post.getUserId()).isEqualTo(3));
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("Created posts should get id 101 and not be stored")
+    void createdPostsShouldGetFakeIdWithoutBeingStored() throws IOException {
+        try (FakeApiServer server = FakeApiServer.start(FakeApiServerConfig.builder().build()); ApiClient client = clientOf(server)) {
+            PostService postService = new PostService(client.getSpec());
+
+            Response first = postService.createPost(new Post(1, "first", "body"));
+            Response second = postService.createPost(new Post(1, "second", "body"));
+
+            assertSoftly(softly -> {
+                softly.assertThat(first.getStatusCode()).isEqualTo(201);
+                softly.assertThat(first.jsonPath().getInt("id")).isEqualTo(101);
+                softly.assertThat(second.jsonPath().getInt("id")).isEqualTo(101);
+                softly.assertThat(postService.getPostById(101).getStatusCode()).isEqualTo(404);
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("Updating a missing post should fail with 500 like the real service")
+    void updateOfMissingPostShouldFail() throws IOException {
+        try (FakeApiServer server = FakeApiServer.start(FakeApiServerConfig.builder().build()); ApiClient client = clientOf(server)) {
+            Response response = new PostService(client.getSpec()).updatePost(500, new Post(1, "title", "body"));
+
+            assertThat(response.getStatusCode()).isEqualTo(500);
+        }
+    }
+
+    @Test
+    @DisplayName("Configured latency should delay every response")
+    void latencyShouldBeInjected() throws IOException {
+        FakeApiServerConfig config = FakeApiServerConfig.builder().latencyMillis(50).build();
+        try (FakeApiServer server = FakeApiServer.start(config); ApiClient client = clientOf(server)) {
+            PostService postService = new PostService(client.getSpec());
+            postService.getPostById(1);
+
+            long start = System.nanoTime();
+            Response response = postService.getPostById(1);
+
+            assertThat(response.getStatusCode()).isEqualTo(200);
+            assertThat((System.nanoTime() - start) / 1_000_000).isGreaterThanOrEqualTo(50);
+        }
+    }
+
+    @Test
+    @DisplayName("Error rate of 1 should answer every request with the error status")
+    void errorsShouldBeInjected() throws IOException {
+        FakeApiServerConfig config = FakeApiServerConfig.builder().errorRate(1).errorStatus(503).build();
+        try (FakeApiServer server = FakeApiServer.start(config); ApiClient client = clientOf(server)) {
+            PostService postService = new PostService(client.getSpec());
+
+            for (int i = 0; i < 10; i++) {
+                assertThat(postService.getPostById(1).getStatusCode()).isEqualTo(503);
+            }
+            assertThat(server.getRequestCount()).isEqualTo(10);
+        }
+    }
+
+    @Test
+    @DisplayName("Server should sustain thousands of requests per second")
+    void serverShouldSustainHighThroughput() throws IOException {
+        try (FakeApiServer server = FakeApiServer.start(FakeApiServerConfig.builder().build());
+             AsyncApiClient client = AsyncApiClient.create(ApiClientConfig.builder().baseUri(server.getBaseUrl()).build())) {
+            AsyncPostService postService = new AsyncPostService(client);
+            fetchPosts(postService, 2_000);
+
+            int requests = 2_000;
+            long start = System.nanoTime();
+            fetchPosts(postService, requests);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            assertThat(requests / seconds).isGreaterThan(500);
+        }
+    }
+
+    // Keeps up to 32 requests in flight
+    private static void fetchPosts(AsyncPostService postService, int requests) {
+        List<CompletableFuture<Post>> inFlight = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            inFlight.add(postService.getPostById(i % 100 + 1));
+            if (inFlight.size() == 32 || i == requests - 1) {
+                inFlight.forEach(future -> assertThat(future.join().getId()).isPositive());
+                inFlight.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.kulebiakin.api.tests;
+
+import com.kulebiakin.api.core.ApiClient;
+import com.kulebiakin.api.core.ApiClientConfig;
+import com.kulebiakin.api.core.AsyncApiClient;
+import com.kulebiakin.api.fake.FakeApiServer;
+import com.kulebiakin.api.metrics.HttpTimings;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Clients with default settings pointed at a {@link FakeApiServer} started by the test itself.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class FakeClients {
+
+    static ApiClient clientOf(FakeApiServer server) {
+        return ApiClient.create(ApiClientConfig.builder().baseUri(server.getBaseUrl()).build());
+    }
+
+    static ApiClient clientOf(FakeApiServer server, HttpTimings timings) {
+        return ApiClient.create(ApiClientConfig.builder().baseUri(server.getBaseUrl()).timings(timings).build());
+    }
+
+    static AsyncApiClient asyncClientOf(FakeApiServer server) {
+        return AsyncApiClient.create(ApiClientConfig.builder().baseUri(server.getBaseUrl()).build());
+    }
+}
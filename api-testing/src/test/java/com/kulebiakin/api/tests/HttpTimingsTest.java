@@ -0,0 +1,133 @@
+package com.kulebiakin.api.tests;
+
+import com.kulebiakin.api.core.ApiClient;
+import com.kulebiakin.api.domain.model.Post;
+import com.kulebiakin.api.domain.service.PostService;
+import com.kulebiakin.api.domain.service.UserService;
+import com.kulebiakin.api.fake.FakeApiServer;
+import com.kulebiakin.api.fake.FakeApiServerConfig;
+import com.kulebiakin.api.metrics.CallTiming;
+import com.kulebiakin.api.metrics.EndpointTimings;
+import com.kulebiakin.api.metrics.HttpTimings;
+import com.kulebiakin.api.metrics.TimingPhase;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.kulebiakin.api.tests.FakeClients.clientOf;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+@DisplayName("HTTP Timing Tests")
+class HttpTimingsTest {
+
+    @Test
+    @DisplayName("Calls should be recorded per endpoint template with every phase")
+    void callsShouldBeRecordedPerEndpointTemplate() throws IOException {
+        HttpTimings timings = new HttpTimings();
+        try (FakeApiServer server = FakeApiServer.start(FakeApiServerConfig.builder().build());
+             ApiClient client = clientOf(server, timings)) {
+            PostService postService = new PostService(client.getSpec());
+            for (int id = 1; id <= 5; id++) {
+                postService.getPostById(id).as(Post.class);
+            }
+            new UserService(client.getSpec()).getUserPosts(1);
+
+            EndpointTimings posts = timings.getEndpoint("GET", "/posts/{id}").orElseThrow();
+            assertSoftly(softly -> {
+                softly.assertThat(posts.getCount(TimingPhase.TOTAL)).isEqualTo(5);
+                softly.assertThat(posts.getCount(TimingPhase.TTFB)).isEqualTo(5);
+                softly.assertThat(posts.getCount(TimingPhase.DESERIALIZATION)).isEqualTo(5);
+                // One connection, reused by the other calls
+                softly.assertThat(posts.getCount(TimingPhase.CONNECT)).isEqualTo(1);
+                softly.assertThat(posts.getHistogram(TimingPhase.TTFB).getMaxValue())
+                    .isLessThanOrEqualTo(posts.getHistogram(TimingPhase.TOTAL).getMaxValue());
+                softly.assertThat(timings.getEndpoint("GET", "/users/{id}/posts")).isPresent();
+                softly.assertThat(timings.getEndpoint("GET", "/users/{id}/posts").orElseThrow()
+                    .getCount(TimingPhase.DESERIALIZATION)).isZero();
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("Deserialization should be charged to the call whose response is read")
+    void deserializationShouldBeChargedToItsOwnCall() throws Exception {
+        HttpTimings timings = new HttpTimings();
+        try (FakeApiServer server = FakeApiServer.start(FakeApiServerConfig.builder().build());
+             ApiClient client = clientOf(server, timings)) {
+            HttpTimings.beginCapture();
+            Response post = new PostService(client.getSpec()).getPostById(1);
+            Response userPosts = new UserService(client.getSpec()).getUserPosts(1);
+            List<CallTiming> calls = HttpTimings.endCapture();
+            post.as(Post.class);
+            // Read on another thread, after this one moved on
+            CompletableFuture.runAsync(() -> userPosts.as(Post[].class)).get();
+            post.as(Post.class);
+
+            assertSoftly(softly -> {
+                softly.assertThat(timings.getEndpoint("GET", "/posts/{id}").orElseThrow()
+                    .getCount(TimingPhase.DESERIALIZATION)).isEqualTo(2);
+                softly.assertThat(timings.getEndpoint("GET", "/users/{id}/posts").orElseThrow()
+                    .getCount(TimingPhase.DESERIALIZATION)).isEqualTo(1);
+                softly.assertThat(calls.get(0).getDeserializationNanos()).isPositive();
+                softly.assertThat(calls.get(1).getDeserializationNanos()).isPositive();
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("A thread should capture the calls it made with their phases")
+    void threadShouldCaptureItsCalls() throws IOException {
+        try (FakeApiServer server = FakeApiServer.start(FakeApiServerConfig.builder().build());
+             ApiClient client = clientOf(server, new HttpTimings())) {
+            PostService postService = new PostService(client.getSpec());
+
+            HttpTimings.beginCapture();
+            postService.getPostById(1).as(Post.class);
+            postService.deletePost(1);
+            List<CallTiming> calls = HttpTimings.endCapture();
+
+            assertThat(calls).hasSize(2);
+            assertSoftly(softly -> {
+                softly.assertThat(calls.get(0).getStatusCode()).isEqualTo(200);
+                softly.assertThat(calls.get(0).getConnectNanos()).isPositive();
+                softly.assertThat(calls.get(0).getDeserializationNanos()).isPositive();
+                softly.assertThat(calls.get(0).format()).startsWith("GET /posts/{id} 200: connect ")
+                    .contains(", ttfb ", ", total ", ", deserialization ");
+                softly.assertThat(calls.get(1).getConnectNanos()).isEqualTo(-1);
+                softly.assertThat(calls.get(1).getDeserializationNanos()).isEqualTo(-1);
+                softly.assertThat(calls.get(1).format()).startsWith("DELETE /posts/{id} 200: ttfb ");
+                softly.assertThat(HttpTimings.endCapture()).isEmpty();
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("Registry should export Prometheus summaries per endpoint and phase")
+    void registryShouldExportPrometheusSummaries() throws IOException {
+        HttpTimings timings = new HttpTimings();
+        try (FakeApiServer server = FakeApiServer.start(FakeApiServerConfig.builder().build());
+             ApiClient client = clientOf(server, timings)) {
+            new PostService(client.getSpec()).getAllPosts();
+        }
+        Path file = Files.createTempDirectory("timings").resolve("metrics/http-timings.prom");
+        timings.writePrometheus(file);
+        String text = Files.readString(file);
+
+        assertSoftly(softly -> {
+            softly.assertThat(text).startsWith("# HELP api_http_request_seconds ");
+            softly.assertThat(text).contains("# TYPE api_http_request_seconds summary\n");
+            softly.assertThat(text).containsPattern(
+                "api_http_request_seconds\\{method=\"GET\",endpoint=\"/posts\",phase=\"total\",quantile=\"0\\.99\"} \\d+\\.\\d{6}\n");
+            softly.assertThat(text).contains(
+                "api_http_request_seconds_count{method=\"GET\",endpoint=\"/posts\",phase=\"total\"} 1\n");
+            softly.assertThat(text).doesNotContain("phase=\"deserialization\"");
+        });
+    }
+}
@@ -0,0 +1,146 @@
+package com.kulebiakin.api.tests;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.kulebiakin.api.core.JsonArrayIterator;
+import com.kulebiakin.api.domain.model.Post;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Streaming JSON Array Decoding Tests")
+class JsonArrayIteratorTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectReader POST_READER = MAPPER.readerFor(Post.class);
+
+    @Test
+    @DisplayName("Elements should decode to the same posts as a full read")
+    void elementsShouldMatchFullDecode() throws IOException {
+        List<Post> posts = List.of(new Post(1, 1, "first", "body"), new Post(2, 1, "second", "body"), new Post());
+        byte[] json = MAPPER.writeValueAsBytes(posts);
+
+        try (Stream<Post> stream = JsonArrayIterator.stream(new ByteArrayInputStream(json), POST_READER)) {
+            assertThat(stream.collect(Collectors.toList())).isEqualTo(posts);
+        }
+    }
+
+    @Test
+    @DisplayName("Empty array should produce no elements")
+    void emptyArrayShouldBeEmpty() throws IOException {
+        try (Stream<Post> stream = JsonArrayIterator.stream(input("[]"), POST_READER)) {
+            assertThat(stream).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Decoding should read only as far as the consumed elements")
+    void decodingShouldNotReadAhead() throws IOException {
+        GeneratedPosts input = new GeneratedPosts(1_000_000);
+
+        try (JsonArrayIterator<Post> iterator = new JsonArrayIterator<>(input, POST_READER)) {
+            for (int i = 1; i <= 10; i++) {
+                assertThat(iterator.next().getId()).isEqualTo(i);
+            }
+            assertThat(input.bytesRead).isLessThan(64 * 1024);
+        }
+        assertThat(input.closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("Arrays far larger than memory held should be decoded in full")
+    void largeArraysShouldBeDecodedInFull() throws IOException {
+        GeneratedPosts input = new GeneratedPosts(300_000);
+
+        try (Stream<Post> stream = JsonArrayIterator.stream(input, POST_READER)) {
+            assertThat(stream.mapToLong(Post::getId).sum()).isEqualTo(300_000L * 300_001 / 2);
+        }
+        assertThat(input.bytesRead).isGreaterThan(20_000_000);
+    }
+
+    @Test
+    @DisplayName("Non-array input should be rejected")
+    void nonArrayInputShouldBeRejected() {
+        assertThatThrownBy(() -> new JsonArrayIterator<>(input("{\"id\":1}"), POST_READER))
+            .isInstanceOf(JsonParseException.class)
+            .hasMessageContaining("Expected a JSON array");
+    }
+
+    @Test
+    @DisplayName("Truncated input should fail while iterating")
+    void truncatedInputShouldFail() throws IOException {
+        try (JsonArrayIterator<Post> iterator = new JsonArrayIterator<>(input("[{\"id\":1},{\"id\":"), POST_READER)) {
+            assertThat(iterator.next().getId()).isEqualTo(1);
+            assertThatThrownBy(iterator::next).isInstanceOf(UncheckedIOException.class);
+        }
+    }
+
+    private static InputStream input(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Produces a JSON array of posts on the fly, so its size is not bounded by the heap
+    private static final class GeneratedPosts extends InputStream {
+        private final int count;
+        private int written;
+        private byte[] chunk = "[".getBytes(StandardCharsets.UTF_8);
+        private int position;
+        private long bytesRead;
+        private boolean closed;
+
+        GeneratedPosts(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public int read() {
+            if (position == chunk.length && !nextChunk()) {
+                return -1;
+            }
+            bytesRead++;
+            return chunk[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (position == chunk.length && !nextChunk()) {
+                return -1;
+            }
+            int copied = Math.min(length, chunk.length - position);
+            System.arraycopy(chunk, position, bytes, offset, copied);
+            position += copied;
+            bytesRead += copied;
+            return copied;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        private boolean nextChunk() {
+            if (written > count) {
+                return false;
+            }
+            written++;
+            String element = written > count ? "]"
+                : (written > 1 ? "," : "") + "{\"userId\":" + (written % 10 + 1) + ",\"id\":" + written
+                + ",\"title\":\"generated post " + written + "\",\"body\":\"quia et suscipit recusandae\"}";
+            chunk = element.getBytes(StandardCharsets.UTF_8);
+            position = 0;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.kulebiakin.api.tests;
+
+import com.kulebiakin.api.fake.FakeApiServer;
+import com.kulebiakin.api.fake.FakeApiServerConfig;
+import com.kulebiakin.api.load.EndpointStats;
+import com.kulebiakin.api.load.LoadConfig;
+import com.kulebiakin.api.load.LoadGenerator;
+import com.kulebiakin.api.load.LoadModel;
+import com.kulebiakin.api.load.LoadReport;
+import com.kulebiakin.api.load.Scenario;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+// Measures latency and arrival rates; runs alone so concurrently executing test classes do not skew it
+@DisplayName("Load Generator Tests")
+@Isolated
+class LoadGeneratorTest {
+
+    @Test
+    @DisplayName("Closed model should report every read-heavy operation with ordered percentiles")
+    void closedModelShouldReportReadHeavyMix() throws IOException, InterruptedException {
+        try (FakeApiServer server = FakeApiServer.start(FakeApiServerConfig.builder().build())) {
+            LoadReport report = LoadGenerator.run(LoadConfig.builder()
+                .baseUri(server.getBaseUrl())
+                .scenario(Scenario.readHeavy())
+                .model(LoadModel.CLOSED)
+                .users(4)
+                .duration(Duration.ofSeconds(3))
+                .warmup(Duration.ofSeconds(1))
+                .build());
+
+            EndpointStats posts = report.endpoint("getPostById").orElseThrow();
+            EndpointStats userPosts = report.endpoint("getUserPosts").orElseThrow();
+            Histogram latency = posts.getLatency();
+            assertSoftly(softly -> {
+                softly.assertThat(posts.getCount()).isGreaterThan(userPosts.getCount()).isPositive();
+                softly.assertThat(userPosts.getCount()).isPositive();
+                softly.assertThat(posts.getErrors() + userPosts.getErrors()).isZero();
+                softly.assertThat(latency.getValueAtPercentile(50)).isLessThanOrEqualTo(latency.getValueAtPercentile(99));
+                softly.assertThat(latency.getValueAtPercentile(99)).isLessThanOrEqualTo(latency.getMaxValue());
+                softly.assertThat(report.format()).contains("getPostById", "getUserPosts", "p99.9 ms");
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("Open model should start requests at the configured rate without CRUD errors")
+    void openModelShouldHoldArrivalRate() throws IOException, InterruptedException {
+        try (FakeApiServer server = FakeApiServer.start(FakeApiServerConfig.builder().build())) {
+            LoadReport report = LoadGenerator.run(LoadConfig.builder()
+                .baseUri(server.getBaseUrl())
+                .scenario(Scenario.crud())
+                .model(LoadModel.OPEN)
+                .ratePerSecond(50)
+                .duration(Duration.ofSeconds(3))
+                .warmup(Duration.ofSeconds(1))
+                .build());
+
+            // 2 measured seconds at 50/s
+            assertThat(report.getTotalCount()).isBetween(95L, 105L);
+            assertThat(report.getEndpoints()).extracting(EndpointStats::getName)
+                .containsExactly("getPostById", "createPost", "updatePost", "deletePost");
+            assertThat(report.getEndpoints()).allSatisfy(stats -> assertThat(stats.getErrors()).isZero());
+        }
+    }
+
+    @Test
+    @DisplayName("Configs that cannot produce a meaningful run should be rejected up front")
+    void invalidConfigShouldBeRejected() {
+        List<LoadConfig> invalid = List.of(
+            LoadConfig.builder().duration(Duration.ofSeconds(5)).warmup(Duration.ofSeconds(5)).build(),
+            LoadConfig.builder().warmup(Duration.ofSeconds(-1)).build(),
+            LoadConfig.builder().ratePerSecond(0).build(),
+            LoadConfig.builder().ratePerSecond(2e9).build(),
+            LoadConfig.builder().ratePerSecond(Double.NaN).build(),
+            LoadConfig.builder().users(0).build(),
+            LoadConfig.builder().maxConcurrency(-1).build(),
+            LoadConfig.builder().pacing(Duration.ofMillis(-1)).build());
+
+        assertThat(invalid).allSatisfy(config -> assertThatThrownBy(() -> new LoadGenerator(config))
+            .isInstanceOf(IllegalArgumentException.class));
+    }
+
+    @Test
+    @DisplayName("Open model latency should include the queueing a slow server causes")
+    void openModelShouldCorrectCoordinatedOmission() throws IOException, InterruptedException {
+        FakeApiServerConfig slow = FakeApiServerConfig.builder().latencyMillis(50).build();
+        try (FakeApiServer server = FakeApiServer.start(slow)) {
+            // 40/s against a single in-flight request of 50 ms: requests queue up for the whole run
+            LoadReport report = LoadGenerator.run(LoadConfig.builder()
+                .baseUri(server.getBaseUrl())
+                .scenario(Scenario.readHeavy())
+                .model(LoadModel.OPEN)
+                .ratePerSecond(40)
+                .maxConcurrency(1)
+                .duration(Duration.ofSeconds(2))
+                .warmup(Duration.ZERO)
+                .build());
+
+            EndpointStats posts = report.endpoint("getPostById").orElseThrow();
+            long correctedP99 = posts.getLatency().getValueAtPercentile(99);
+            long serviceP99 = posts.getServiceTime().getValueAtPercentile(99);
+            assertThat(serviceP99).isLessThan(200_000);
+            assertThat(correctedP99).isGreaterThan(4 * serviceP99);
+        }
+    }
+}
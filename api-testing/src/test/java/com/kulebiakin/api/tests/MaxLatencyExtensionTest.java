@@ -0,0 +1,110 @@
+package com.kulebiakin.api.tests;
+
+import com.kulebiakin.api.extensions.LatencyRecorder;
+import com.kulebiakin.api.extensions.MaxLatency;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+import org.junit.platform.testkit.engine.EngineTestKit;
+import org.junit.platform.testkit.engine.Events;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+
+// Asserts on wall-clock budgets; runs alone so concurrently executing test classes do not skew it
+@DisplayName("Max Latency Extension Tests")
+@Isolated
+class MaxLatencyExtensionTest {
+
+    private static Events run(String method) {
+        return EngineTestKit.engine("junit-jupiter")
+            .selectors(selectMethod(Budgets.class, method))
+            .execute()
+            .testEvents();
+    }
+
+    @Test
+    @DisplayName("Recorder should return nearest-rank percentiles of its samples")
+    void recorderShouldReturnNearestRankPercentiles() {
+        LatencyRecorder recorder = new LatencyRecorder(100);
+        for (int i = 100; i >= 1; i--) {
+            recorder.record(i);
+        }
+
+        assertThat(recorder.min()).isEqualTo(1);
+        assertThat(recorder.percentile(50)).isEqualTo(50);
+        assertThat(recorder.percentile(95)).isEqualTo(95);
+        assertThat(recorder.percentile(99.5)).isEqualTo(100);
+        assertThat(recorder.max()).isEqualTo(100);
+        assertThatThrownBy(() -> recorder.record(101)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Test within budget should pass after warmup plus sample runs")
+    void testWithinBudgetShouldPass() {
+        Budgets.runs.set(0);
+
+        run("fast").assertStatistics(stats -> stats.succeeded(1).failed(0));
+        assertThat(Budgets.runs.get()).isEqualTo(2 + 10);
+    }
+
+    @Test
+    @DisplayName("Slow warmup runs should not count against the budget")
+    void warmupShouldBeExcluded() {
+        Budgets.runs.set(0);
+
+        run("slowWarmup").assertStatistics(stats -> stats.succeeded(1).failed(0));
+    }
+
+    @Test
+    @DisplayName("Test over budget should fail with a percentile breakdown")
+    void testOverBudgetShouldFailWithBreakdown() {
+        run("slow").assertThatEvents().haveExactly(1, finishedWithFailure(
+            message(text -> text.startsWith("Latency budget exceeded: p95 ")
+                && text.contains("5 samples after 0 warmup runs: min ")
+                && text.contains(", p99 "))));
+    }
+
+    @Test
+    @DisplayName("Failing call should fail the test with its own error")
+    void failingCallShouldPropagate() {
+        run("failing").assertThatEvents().haveExactly(1, finishedWithFailure(message("boom")));
+    }
+
+    // Executed through the engine test kit only
+    static class Budgets {
+        static final AtomicInteger runs = new AtomicInteger();
+
+        @Test
+        @MaxLatency(p95 = "50ms", warmup = 2, samples = 10)
+        void fast() {
+            runs.incrementAndGet();
+        }
+
+        @Test
+        @MaxLatency(p99 = "50ms", warmup = 2, samples = 5)
+        void slowWarmup() throws InterruptedException {
+            if (runs.incrementAndGet() <= 2) {
+                TimeUnit.MILLISECONDS.sleep(100);
+            }
+        }
+
+        @Test
+        @MaxLatency(p95 = "1ms", warmup = 0, samples = 5)
+        void slow() throws InterruptedException {
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+
+        @Test
+        @MaxLatency(p95 = "1s", samples = 5)
+        void failing() {
+            throw new IllegalStateException("boom");
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.kulebiakin.api.tests;
+
+import com.kulebiakin.api.core.ApiClient;
+import com.kulebiakin.api.core.AsyncApiClient;
+import com.kulebiakin.api.core.PrefetchingPageIterator;
+import com.kulebiakin.api.domain.model.Post;
+import com.kulebiakin.api.domain.service.AsyncPostService;
+import com.kulebiakin.api.domain.service.AsyncUserService;
+import com.kulebiakin.api.domain.service.PostService;
+import com.kulebiakin.api.fake.FakeApiServer;
+import com.kulebiakin.api.fake.FakeApiServerConfig;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.kulebiakin.api.tests.FakeClients.asyncClientOf;
+import static com.kulebiakin.api.tests.FakeClients.clientOf;
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+@DisplayName("Paginated Reads Tests")
+class PaginationTest {
+
+    @Test
+    @DisplayName("Fake server should slice /posts by _start/_limit and _page and report X-Total-Count")
+    void fakeServerShouldPaginatePosts() throws IOException {
+        try (FakeApiServer server = FakeApiServer.start(FakeApiServerConfig.builder().build());
+             ApiClient client = clientOf(server)) {
+            PostService postService = new PostService(client.getSpec());
+            Response slice = postService.getPosts(10, 5);
+            List<Post> page = given().spec(client.getSpec()).get("/posts?_page=3&_limit=20")
+                .jsonPath().getList(".", Post.class);
+            List<Post> pastEnd = postService.getPosts(100, 10).jsonPath().getList(".", Post.class);
+
+            assertSoftly(softly -> {
+                softly.assertThat(slice.getHeader("X-Total-Count")).isEqualTo("100");
+                softly.assertThat(slice.jsonPath().getList("id", Integer.class)).containsExactly(11, 12, 13, 14, 15);
+                softly.assertThat(page).extracting(Post::getId).first().isEqualTo(41);
+                softly.assertThat(page).hasSize(20);
+                softly.assertThat(pastEnd).isEmpty();
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("Paged stream should yield the same posts as GET /posts for any page size")
+    void pagedStreamShouldMatchAllPosts() throws IOException {
+        try (FakeApiServer server = FakeApiServer.start(FakeApiServerConfig.builder().build());
+             AsyncApiClient client = asyncClientOf(server)) {
+            AsyncPostService postService = new AsyncPostService(client);
+            List<Post> all = postService.getAllPosts().join();
+
+            for (int pageSize : new int[] {7, 10, 100, 250}) {
+                try (Stream<Post> paged = postService.streamAllPostsPaged(pageSize, 2)) {
+                    assertThat(paged.collect(Collectors.toList())).as("page size %d", pageSize).isEqualTo(all);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Paged stream should walk a large collection in order")
+    void pagedStreamShouldWalkLargeCollection() throws IOException {
+        try (FakeApiServer server = FakeApiServer.start(FakeApiServerConfig.builder().postCount(5_000).build());
+             AsyncApiClient client = asyncClientOf(server);
+             Stream<Post> paged = new AsyncPostService(client).streamAllPostsPaged(100, 3)) {
+            int[] ids = paged.mapToInt(Post::getId).toArray();
+
+            assertThat(ids).isEqualTo(IntStream.rangeClosed(1, 5_000).toArray());
+        }
+    }
+
+    @Test
+    @DisplayName("Fake server should serve tens of millions of posts without holding them")
+    void fakeServerShouldGeneratePostsOnDemand() throws IOException {
+        try (FakeApiServer huge = FakeApiServer.start(FakeApiServerConfig.builder().postCount(50_000_000).build());
+             FakeApiServer small = FakeApiServer.start(FakeApiServerConfig.builder().build());
+             ApiClient hugeClient = clientOf(huge);
+             ApiClient smallClient = clientOf(small)) {
+            PostService hugeService = new PostService(hugeClient.getSpec());
+            Response deepPage = hugeService.getPosts(40_000_000, 5);
+            Post last = hugeService.getPostById(50_000_000).as(Post.class);
+            List<Post> firstPage = hugeService.getPosts(0, 100).jsonPath().getList(".", Post.class);
+            List<Post> eagerPosts = new PostService(smallClient.getSpec()).getAllPosts()
+                .jsonPath().getList(".", Post.class);
+
+            assertSoftly(softly -> {
+                softly.assertThat(deepPage.getHeader("X-Total-Count")).isEqualTo("50000000");
+                softly.assertThat(deepPage.jsonPath().getList("id", Integer.class))
+                    .containsExactly(40_000_001, 40_000_002, 40_000_003, 40_000_004, 40_000_005);
+                softly.assertThat(last.getId()).isEqualTo(50_000_000);
+                softly.assertThat(last.getUserId()).isEqualTo(10);
+                softly.assertThat(hugeService.getPostById(50_000_001).getStatusCode()).isEqualTo(404);
+                softly.assertThat(firstPage).as("generated on demand like the eager dataset").isEqualTo(eagerPosts);
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("Unpaged listings of generated posts should be streamed")
+    void unpagedListingsOfGeneratedPostsShouldBeStreamed() throws IOException {
+        try (FakeApiServer server = FakeApiServer.start(FakeApiServerConfig.builder().postCount(20_005).build());
+             AsyncApiClient client = asyncClientOf(server)) {
+            AsyncPostService postService = new AsyncPostService(client);
+            long count;
+            try (Stream<Post> all = postService.streamAllPosts().join()) {
+                count = all.count();
+            }
+            List<Post> userPosts = new AsyncUserService(client).getUserPosts(1).join();
+
+            assertThat(count).isEqualTo(20_005);
+            // 2001 blocks of ten, the last one holding posts 20001-20005 of user 1
+            assertThat(userPosts).hasSize(2_005).allSatisfy(post -> assertThat(post.getUserId()).isEqualTo(1));
+        }
+    }
+
+    @Test
+    @DisplayName("Iterator should keep at most prefetchDepth pages in flight and stop at the first short page")
+    void iteratorShouldBoundPrefetchWindow() {
+        List<int[]> requests = new ArrayList<>();
+        PrefetchingPageIterator.PageFetcher<Integer> fetcher = (start, limit) -> {
+            requests.add(new int[] {start, limit});
+            return CompletableFuture.completedFuture(
+                IntStream.range(start, Math.min(start + limit, 95)).boxed().collect(Collectors.toList()));
+        };
+
+        List<Integer> seen = new ArrayList<>();
+        try (PrefetchingPageIterator<Integer> iterator = new PrefetchingPageIterator<>(fetcher, 10, 3)) {
+            assertThat(requests).as("nothing is fetched before iteration starts").isEmpty();
+            while (iterator.hasNext()) {
+                seen.add(iterator.next());
+                assertThat(iterator.getPendingPages()).isLessThanOrEqualTo(3);
+                assertThat(requests.size() * 10).isLessThanOrEqualTo(seen.size() + 10 * 3 + 10);
+            }
+        }
+
+        assertThat(seen).isEqualTo(IntStream.range(0, 95).boxed().collect(Collectors.toList()));
+        // Pages up to the short one at 90, plus the window issued while it was taken
+        assertThat(requests).hasSize(13).allSatisfy(request -> assertThat(request[1]).isEqualTo(10));
+    }
+
+    @Test
+    @DisplayName("Closing the iterator early should cancel the prefetched pages")
+    void closingShouldCancelPrefetchedPages() {
+        List<CompletableFuture<List<Integer>>> futures = new ArrayList<>();
+        PrefetchingPageIterator.PageFetcher<Integer> fetcher = (start, limit) -> {
+            // The first page is ready, the rest never arrive
+            CompletableFuture<List<Integer>> future = start == 0
+                ? CompletableFuture.completedFuture(List.of(1, 2, 3))
+                : new CompletableFuture<>();
+            futures.add(future);
+            return future;
+        };
+
+        try (Stream<Integer> stream = PrefetchingPageIterator.stream(fetcher, 3, 2)) {
+            assertThat(stream.limit(2)).containsExactly(1, 2);
+        }
+
+        assertThat(futures).hasSize(3);
+        assertThat(futures.subList(1, 3)).allSatisfy(future -> assertThat(future).isCancelled());
+    }
+
+    @Test
+    @DisplayName("A failed page should end iteration and cancel the rest of the window")
+    void failedPageShouldCancelWindow() {
+        List<CompletableFuture<List<Integer>>> futures = new ArrayList<>();
+        PrefetchingPageIterator.PageFetcher<Integer> fetcher = (start, limit) -> {
+            CompletableFuture<List<Integer>> future = start == 0
+                ? CompletableFuture.failedFuture(new IllegalStateException("page failed"))
+                : new CompletableFuture<>();
+            futures.add(future);
+            return future;
+        };
+        PrefetchingPageIterator<Integer> iterator = new PrefetchingPageIterator<>(fetcher, 5, 2);
+
+        assertThatThrownBy(iterator::hasNext).hasRootCauseInstanceOf(IllegalStateException.class);
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(futures.subList(1, 3)).allSatisfy(future -> assertThat(future).isCancelled());
+    }
+}
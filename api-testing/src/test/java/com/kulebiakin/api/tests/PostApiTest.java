@@ -2,9 +2,17 @@ package com.kulebiakin.api.tests;
 
 import com.kulebiakin.api.domain.model.Post;
 import com.kulebiakin.api.domain.service.PostService;
+import com.kulebiakin.api.extensions.HttpTimingExtension;
+import com.kulebiakin.api.extensions.MaxLatency;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.junit.jupiter.api.parallel.Resources;
 
 import java.util.List;
 
@@ -13,12 +21,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
 @DisplayName("Posts API Tests")
+@ExtendWith(HttpTimingExtension.class)
+@Execution(ExecutionMode.CONCURRENT)
 class PostApiTest {
 
     private final PostService postService = new PostService();
 
     // Positive Tests
     @Test
+    @ResourceLock(value = ApiResources.POSTS, mode = ResourceAccessMode.READ)
     @DisplayName("GET /posts - should return all posts with status 200")
     void getAllPostsShouldReturnAllPosts() {
         Response response = postService.getAllPosts();
@@ -39,6 +50,7 @@ class PostApiTest {
     }
 
     @Test
+    @ResourceLock(value = ApiResources.POSTS, mode = ResourceAccessMode.READ)
     @DisplayName("GET /posts/{id} - should return specific post by valid ID")
     void getPostByIdWithValidIdShouldReturnPost() {
         int postId = 1;
@@ -57,6 +69,7 @@ class PostApiTest {
     }
 
     @Test
+    @ResourceLock(value = ApiResources.POSTS, mode = ResourceAccessMode.READ_WRITE)
     @DisplayName("POST /posts - should create new post with status 201")
     void createPostShouldReturnCreatedPost() {
         var newPost = new Post(1, "Test Title", "Test Body Content");
@@ -75,6 +88,7 @@ class PostApiTest {
     }
 
     @Test
+    @ResourceLock(value = ApiResources.POSTS, mode = ResourceAccessMode.READ_WRITE)
     @DisplayName("PUT /posts/{id} - should update existing post")
     void updatePostShouldReturnUpdatedPost() {
         int postId = 1;
@@ -93,6 +107,7 @@ class PostApiTest {
     }
 
     @Test
+    @ResourceLock(value = ApiResources.POSTS, mode = ResourceAccessMode.READ_WRITE)
     @DisplayName("DELETE /posts/{id} - should delete post with status 200")
     void deletePostShouldReturnSuccess() {
         int postId = 1;
@@ -103,6 +118,7 @@ class PostApiTest {
 
     // Negative Tests
     @Test
+    @ResourceLock(value = ApiResources.POSTS, mode = ResourceAccessMode.READ)
     @DisplayName("GET /posts/{id} - should return 404 for non-existent ID")
     void getPostByIdWithInvalidIdShouldReturnNotFound() {
         int invalidId = 99999;
@@ -112,6 +128,7 @@ class PostApiTest {
     }
 
     @Test
+    @ResourceLock(value = ApiResources.POSTS, mode = ResourceAccessMode.READ)
     @DisplayName("GET /posts/{id} - should handle non-numeric ID gracefully")
     void getPostByIdWithNonNumericIdShouldReturnNotFound() {
         Response response = postService.getPostById("abc");
@@ -120,6 +137,7 @@ class PostApiTest {
     }
 
     @Test
+    @ResourceLock(value = ApiResources.POSTS, mode = ResourceAccessMode.READ_WRITE)
     @DisplayName("POST /posts - should handle empty body")
     void createPostWithEmptyFieldsShouldStillCreate() {
         var emptyPost = new Post();
@@ -130,6 +148,7 @@ class PostApiTest {
     }
 
     @Test
+    @ResourceLock(value = Resources.GLOBAL, mode = ResourceAccessMode.READ_WRITE)
     @DisplayName("GET /posts - response time should be acceptable")
     void getAllPostsShouldRespondWithinAcceptableTime() {
         Response response = postService.getAllPosts();
@@ -139,6 +158,15 @@ class PostApiTest {
     }
 
     @Test
+    @ResourceLock(value = Resources.GLOBAL, mode = ResourceAccessMode.READ_WRITE)
+    @MaxLatency(p95 = "500ms", warmup = 3, samples = 30)
+    @DisplayName("GET /posts/{id} - p95 latency should stay within budget")
+    void getPostByIdShouldStayWithinLatencyBudget() {
+        assertThat(postService.getPostById(1).getStatusCode()).isEqualTo(200);
+    }
+
+    @Test
+    @ResourceLock(value = ApiResources.POSTS, mode = ResourceAccessMode.READ)
     @DisplayName("GET /posts/{id} - should have correct response headers")
     void getPostByIdShouldHaveCorrectHeaders() {
         Response response = postService.getPostById(1);
@@ -0,0 +1,238 @@
+package com.kulebiakin.api.tests;
+
+import com.kulebiakin.api.cache.CacheStats;
+import com.kulebiakin.api.cache.ResponseCache;
+import com.kulebiakin.api.cache.ResponseCacheConfig;
+import com.kulebiakin.api.core.ApiClient;
+import com.kulebiakin.api.core.ApiClientConfig;
+import com.kulebiakin.api.domain.model.Post;
+import com.kulebiakin.api.domain.service.PostService;
+import com.kulebiakin.api.domain.service.UserService;
+import com.kulebiakin.api.fake.FakeApiServer;
+import com.kulebiakin.api.fake.FakeApiServerConfig;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+@DisplayName("Response Cache Tests")
+class ResponseCacheTest {
+
+    private FakeApiServer server;
+    private ApiClient client;
+
+    @AfterEach
+    void stop() {
+        client.close();
+        server.close();
+    }
+
+    private void start(FakeApiServerConfig serverConfig, ResponseCacheConfig cacheConfig) throws IOException {
+        server = FakeApiServer.start(serverConfig);
+        client = ApiClient.create(ApiClientConfig.builder()
+            .baseUri(server.getBaseUrl())
+            .responseCache(cacheConfig)
+            .build());
+    }
+
+    private CacheStats stats() {
+        return client.getResponseCache().map(ResponseCache::getStats).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Repeated GETs should be served from the cache")
+    void repeatedGetsShouldHitCache() throws IOException {
+        start(FakeApiServerConfig.builder().build(), ResponseCacheConfig.builder().build());
+        UserService userService = new UserService(client.getSpec());
+
+        Response first = userService.getUserById(1);
+        for (int i = 0; i < 9; i++) {
+            Response cached = userService.getUserById(1);
+            assertThat(cached.getStatusCode()).isEqualTo(200);
+            assertThat(cached.asByteArray()).isEqualTo(first.asByteArray());
+        }
+
+        assertSoftly(softly -> {
+            softly.assertThat(server.getRequestCount()).isEqualTo(1);
+            softly.assertThat(stats().getHits()).isEqualTo(9);
+            softly.assertThat(stats().getMisses()).isEqualTo(1);
+            softly.assertThat(stats().getHitRatio()).isEqualTo(0.9);
+        });
+    }
+
+    @Test
+    @DisplayName("Expired entries should be revalidated with their ETag")
+    void expiredEntriesShouldBeRevalidated() throws IOException {
+        start(FakeApiServerConfig.builder().build(),
+            ResponseCacheConfig.builder().ttl("/users/{id}/posts", Duration.ZERO).build());
+        UserService userService = new UserService(client.getSpec());
+
+        List<Post> first = userService.getUserPosts(1).jsonPath().getList(".", Post.class);
+        List<Post> revalidated = userService.getUserPosts(1).jsonPath().getList(".", Post.class);
+        userService.getUserById(1);
+        userService.getUserById(1);
+
+        assertSoftly(softly -> {
+            softly.assertThat(revalidated).isEqualTo(first);
+            softly.assertThat(stats().getRevalidations()).isEqualTo(1);
+            softly.assertThat(stats().getHits()).isEqualTo(1);
+            softly.assertThat(server.getRequestCount()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    @DisplayName("Least recently used entries should be evicted beyond the size bound")
+    void leastRecentlyUsedEntriesShouldBeEvicted() throws IOException {
+        start(FakeApiServerConfig.builder().build(), ResponseCacheConfig.builder().maxEntries(2).build());
+        PostService postService = new PostService(client.getSpec());
+
+        postService.getPostById(1);
+        postService.getPostById(2);
+        postService.getPostById(1);
+        postService.getPostById(3);
+        long requests = server.getRequestCount();
+        postService.getPostById(1);
+
+        assertSoftly(softly -> {
+            softly.assertThat(stats().getEvictions()).isEqualTo(1);
+            softly.assertThat(stats().getSize()).isEqualTo(2);
+            softly.assertThat(server.getRequestCount()).isEqualTo(requests);
+        });
+        postService.getPostById(2);
+        assertThat(server.getRequestCount()).isEqualTo(requests + 1);
+    }
+
+    @Test
+    @DisplayName("Mutations should invalidate the entries they affect")
+    void mutationsShouldInvalidateAffectedEntries() throws IOException {
+        start(FakeApiServerConfig.builder().build(), ResponseCacheConfig.builder().build());
+        PostService postService = new PostService(client.getSpec());
+        UserService userService = new UserService(client.getSpec());
+        postService.getAllPosts();
+        postService.getPostById(1);
+        userService.getUserPosts(1);
+        userService.getUserById(1);
+
+        postService.updatePost(1, new Post(1, "Updated", "Body"));
+
+        assertSoftly(softly -> {
+            softly.assertThat(stats().getInvalidations()).isEqualTo(3);
+            softly.assertThat(stats().getSize()).isEqualTo(1);
+        });
+        long requests = server.getRequestCount();
+        userService.getUserById(1);
+        postService.getAllPosts();
+        assertThat(server.getRequestCount()).isEqualTo(requests + 1);
+    }
+
+    @Test
+    @DisplayName("Invalidation should match whole path segments")
+    void invalidationShouldMatchWholeSegments() throws IOException {
+        start(FakeApiServerConfig.builder().build(), ResponseCacheConfig.builder().build());
+        HttpServer archive = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        archive.createContext("/", exchange -> {
+            byte[] body = "[]".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        archive.start();
+        try (ApiClient archiveClient = ApiClient.create(ApiClientConfig.builder()
+            .baseUri("http://localhost:" + archive.getAddress().getPort())
+            .responseCache(ResponseCacheConfig.builder().build())
+            .build())) {
+            given().spec(archiveClient.getSpec()).get("/postsArchive");
+            given().spec(archiveClient.getSpec()).get("/posts/1");
+            ResponseCache cache = archiveClient.getResponseCache().orElseThrow();
+
+            cache.invalidate("/posts/1");
+
+            assertThat(cache.getStats().getSize()).isEqualTo(1);
+            assertThat(cache.getStats().getInvalidations()).isEqualTo(1);
+        } finally {
+            archive.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("A GET in flight while a write invalidates the cache should not be stored")
+    void getInFlightDuringWriteShouldNotBeStored() throws Exception {
+        start(FakeApiServerConfig.builder().latencyMillis(500).build(), ResponseCacheConfig.builder().build());
+        PostService postService = new PostService(client.getSpec());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // The delete invalidates at ~500 ms, while the GET sent at ~200 ms is still waiting for its response
+            Future<Response> delete = executor.submit(() -> postService.deletePost(1));
+            Thread.sleep(200);
+            assertThat(postService.getPostById(1).getStatusCode()).isEqualTo(200);
+            assertThat(delete.get().getStatusCode()).isEqualTo(200);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(stats().getSize()).isZero();
+        long requests = server.getRequestCount();
+        postService.getPostById(1);
+        assertThat(server.getRequestCount()).isEqualTo(requests + 1);
+    }
+
+    @Test
+    @DisplayName("Error responses should not be cached")
+    void errorResponsesShouldNotBeCached() throws IOException {
+        start(FakeApiServerConfig.builder().build(), ResponseCacheConfig.builder().build());
+        PostService postService = new PostService(client.getSpec());
+
+        assertThat(postService.getPostById(99999).getStatusCode()).isEqualTo(404);
+        assertThat(postService.getPostById(99999).getStatusCode()).isEqualTo(404);
+
+        assertThat(server.getRequestCount()).isEqualTo(2);
+        assertThat(stats().getSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("Concurrent identical GETs should collapse into one request")
+    void concurrentIdenticalGetsShouldCollapse() throws Exception {
+        start(FakeApiServerConfig.builder().latencyMillis(300).build(), ResponseCacheConfig.builder().build());
+        PostService postService = new PostService(client.getSpec());
+        int callers = 8;
+        CountDownLatch ready = new CountDownLatch(callers);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Response>> responses = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                responses.add(executor.submit(() -> {
+                    ready.countDown();
+                    ready.await();
+                    return postService.getAllPosts();
+                }));
+            }
+            for (Future<Response> response : responses) {
+                assertThat(response.get().jsonPath().getList(".", Post.class)).hasSize(100);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(server.getRequestCount()).isEqualTo(1);
+        assertThat(stats().getHits()).isEqualTo(callers - 1);
+    }
+}
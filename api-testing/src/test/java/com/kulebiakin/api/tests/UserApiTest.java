@@ -2,20 +2,33 @@ package com.kulebiakin.api.tests;
 
 import com.kulebiakin.api.domain.model.Post;
 import com.kulebiakin.api.domain.model.User;
+import com.kulebiakin.api.domain.service.AsyncPostService;
+import com.kulebiakin.api.domain.service.UserPostsAggregator;
 import com.kulebiakin.api.domain.service.UserService;
+import com.kulebiakin.api.extensions.HttpTimingExtension;
+import com.kulebiakin.api.extensions.MaxLatency;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.junit.jupiter.api.parallel.Resources;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
 @DisplayName("Users API Tests")
+@ExtendWith(HttpTimingExtension.class)
+@Execution(ExecutionMode.CONCURRENT)
 class UserApiTest {
 
-    private static final CONTENT_TYPE_APPLICATION_JSON ="application/json";
+    private static final String CONTENT_TYPE_APPLICATION_JSON = "application/json";
     private final UserService userService = new UserService();
 
     // Positive Tests
@@ -93,6 +106,7 @@ class UserApiTest {
     }
 
     @Test
+    @ResourceLock(value = ApiResources.POSTS, mode = ResourceAccessMode.READ)
     @DisplayName("GET /users/{id}/posts - should return all posts for user")
     void getUserPostsShouldReturnUserPosts() {
         int userId = 1;
@@ -145,6 +159,7 @@ class UserApiTest {
     }
 
     @Test
+    @ResourceLock(value = ApiResources.POSTS, mode = ResourceAccessMode.READ)
     @DisplayName("GET /users/{id}/posts - should return empty array for user with no posts")
     void getUserPostsForInvalidUserShouldReturnEmptyArray() {
         Response response = userService.getUserPosts(99999);
@@ -155,6 +170,26 @@ class UserApiTest {
     }
 
     @Test
+    @ResourceLock(value = Resources.GLOBAL, mode = ResourceAccessMode.READ_WRITE)
+    @MaxLatency(p95 = "500ms", warmup = 3, samples = 30)
+    @DisplayName("GET /users/{id}/posts - p95 latency should stay within budget")
+    void getUserPostsShouldStayWithinLatencyBudget() {
+        assertThat(userService.getUserPosts(1).getStatusCode()).isEqualTo(200);
+    }
+
+    @Test
+    @ResourceLock(value = ApiResources.POSTS, mode = ResourceAccessMode.READ)
+    @DisplayName("GET /users/{id}/posts - every user's posts should match /posts grouped by userId")
+    void everyUsersPostsShouldMatchAllPosts() {
+        Map<User, List<Post>> joined = new UserPostsAggregator().joinAll();
+        List<Post> allPosts = new AsyncPostService().getAllPosts().join();
+
+        assertThat(joined).isNotEmpty();
+        assertThat(UserPostsAggregator.crossValidate(joined, allPosts)).isEmpty();
+    }
+
+    @Test
+    @ResourceLock(value = Resources.GLOBAL, mode = ResourceAccessMode.READ_WRITE)
     @DisplayName("GET /users - response time should be acceptable")
     void getAllUsersShouldRespondWithinAcceptableTime() {
         Response response = userService.getAllUsers();
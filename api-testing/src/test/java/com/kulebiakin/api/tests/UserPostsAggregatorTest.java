@@ -0,0 +1,178 @@
+package com.kulebiakin.api.tests;
+
+import com.kulebiakin.api.core.AsyncApiClient;
+import com.kulebiakin.api.domain.model.Post;
+import com.kulebiakin.api.domain.model.User;
+import com.kulebiakin.api.domain.service.AsyncPostService;
+import com.kulebiakin.api.domain.service.AsyncUserService;
+import com.kulebiakin.api.domain.service.UserPostsAggregator;
+import com.kulebiakin.api.domain.service.UserPostsAggregator.UserPosts;
+import com.kulebiakin.api.fake.FakeApiServer;
+import com.kulebiakin.api.fake.FakeApiServerConfig;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.kulebiakin.api.tests.FakeClients.asyncClientOf;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+// Compares wall-clock times; runs alone so concurrently executing test classes do not skew it
+@DisplayName("User Posts Aggregator Tests")
+@Isolated
+class UserPostsAggregatorTest {
+
+    private static List<User> users(int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(id -> {
+            User user = new User();
+            user.setId(id);
+            return user;
+        }).toList();
+    }
+
+    // Serves the posts of user 1 from firstResult; every other request never completes
+    private static AsyncUserService stubService(List<CompletableFuture<List<Post>>> requests,
+                                                CompletableFuture<List<Post>> firstResult) {
+        return new AsyncUserService(null) {
+            @Override
+            public CompletableFuture<List<Post>> getUserPosts(int userId) {
+                CompletableFuture<List<Post>> request = userId == 1 ? firstResult : new CompletableFuture<>();
+                requests.add(request);
+                return request;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Joined users and posts should match /posts grouped by userId")
+    void joinShouldMatchAllPostsGroupedByUser() throws IOException {
+        try (FakeApiServer server = FakeApiServer.start(FakeApiServerConfig.builder().build());
+             AsyncApiClient client = asyncClientOf(server)) {
+            Map<User, List<Post>> joined = new UserPostsAggregator(new AsyncUserService(client), 4).joinAll();
+            List<Post> allPosts = new AsyncPostService(client).getAllPosts().join();
+
+            assertThat(joined).hasSize(10);
+            assertThat(joined.keySet()).extracting(User::getId).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+            assertThat(joined.values()).allSatisfy(posts -> assertThat(posts).hasSize(10));
+            assertThat(UserPostsAggregator.crossValidate(joined, allPosts)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Cross-validation should report missing and orphaned posts")
+    void crossValidationShouldReportDifferences() {
+        User user = new User();
+        user.setId(1);
+        Post first = new Post(1, 1, "first", "body");
+        Post second = new Post(2, 1, "second", "body");
+        Post orphan = new Post(3, 99, "orphan", "body");
+
+        List<String> mismatches = UserPostsAggregator.crossValidate(Map.of(user, List.of(first)), List.of(first, second, orphan));
+
+        assertThat(mismatches).containsExactly(
+            "User 1: /users/1/posts returned [1], /posts has [1, 2]",
+            "Posts [3] belong to unknown user 99");
+    }
+
+    @Test
+    @DisplayName("Stream should not send more requests than the consumer makes room for")
+    void streamShouldApplyBackpressure() throws IOException, InterruptedException {
+        try (FakeApiServer server = FakeApiServer.start(FakeApiServerConfig.builder().build());
+             AsyncApiClient client = asyncClientOf(server)) {
+            UserPostsAggregator aggregator = new UserPostsAggregator(new AsyncUserService(client), 2);
+            List<User> users = new AsyncUserService(client).getAllUsers().join();
+            long before = server.getRequestCount();
+
+            try (Stream<UserPosts> stream = aggregator.stream(users)) {
+                Iterator<UserPosts> results = stream.iterator();
+                results.next();
+                TimeUnit.MILLISECONDS.sleep(200);
+                long afterFirst = server.getRequestCount() - before;
+                List<UserPosts> rest = new ArrayList<>();
+                results.forEachRemaining(rest::add);
+
+                assertSoftly(softly -> {
+                    // Two sent up front, none more until the consumer asks for the next result
+                    softly.assertThat(afterFirst).isEqualTo(2);
+                    softly.assertThat(rest).hasSize(9);
+                    softly.assertThat(server.getRequestCount() - before).isEqualTo(10);
+                });
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Failed per-user request should fail the stream")
+    void failedRequestShouldFailStream() throws IOException {
+        FakeApiServerConfig failing = FakeApiServerConfig.builder().errorRate(1.0).build();
+        User user = new User();
+        user.setId(1);
+        try (FakeApiServer server = FakeApiServer.start(failing); AsyncApiClient client = asyncClientOf(server)) {
+            UserPostsAggregator aggregator = new UserPostsAggregator(new AsyncUserService(client), 2);
+
+            assertThatThrownBy(() -> aggregator.stream(List.of(user)).toList())
+                .isInstanceOf(CompletionException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Closing the stream early should cancel the outstanding requests")
+    void closingShouldCancelOutstandingRequests() {
+        List<CompletableFuture<List<Post>>> requests = new ArrayList<>();
+        AsyncUserService userService = stubService(requests, CompletableFuture.completedFuture(List.of()));
+
+        try (Stream<UserPosts> stream = new UserPostsAggregator(userService, 3).stream(users(5))) {
+            assertThat(stream.limit(1)).extracting(userPosts -> userPosts.user().getId()).containsExactly(1);
+        }
+
+        assertThat(requests).hasSize(3);
+        assertThat(requests.subList(1, 3)).allSatisfy(request -> assertThat(request).isCancelled());
+    }
+
+    @Test
+    @DisplayName("A failed request should cancel the requests still outstanding")
+    void failedRequestShouldCancelOutstandingRequests() {
+        List<CompletableFuture<List<Post>>> requests = new ArrayList<>();
+        AsyncUserService userService = stubService(requests,
+            CompletableFuture.failedFuture(new IllegalStateException("posts failed")));
+
+        try (Stream<UserPosts> stream = new UserPostsAggregator(userService, 3).stream(users(5))) {
+            assertThatThrownBy(stream::toList).hasRootCauseInstanceOf(IllegalStateException.class);
+        }
+
+        assertThat(requests).hasSize(3);
+        assertThat(requests.subList(1, 3)).allSatisfy(request -> assertThat(request).isCancelled());
+    }
+
+    @Test
+    @DisplayName("Speed-up over the one-at-a-time loop should be measured and reported")
+    void fanOutSpeedUpShouldBeReported() throws IOException {
+        FakeApiServerConfig slow = FakeApiServerConfig.builder().latencyMillis(50).build();
+        try (FakeApiServer server = FakeApiServer.start(slow); AsyncApiClient client = asyncClientOf(server)) {
+            UserPostsAggregator aggregator = new UserPostsAggregator(new AsyncUserService(client), 10);
+            // Warm up the client and connections
+            aggregator.joinAll();
+
+            UserPostsAggregator.SpeedUp speedUp = aggregator.measureSpeedUp();
+
+            Allure.addAttachment("Fan-out speed-up", "text/plain", speedUp.format());
+            // The ratio depends on the machine and is only reported; 10 sequential round trips of 50 ms are not
+            assertThat(speedUp.sequential()).isGreaterThanOrEqualTo(Duration.ofMillis(500));
+            assertThat(speedUp.format()).startsWith("sequential ").contains(" 10 concurrent ", "speed-up ");
+        }
+    }
+}
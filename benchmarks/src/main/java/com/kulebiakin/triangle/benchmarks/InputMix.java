@@ -0,0 +1,82 @@
+package com.kulebiakin.triangle.benchmarks;
+
+import java.util.SplittableRandom;
+
+/**
+ * Side triple distributions the classifier benchmarks run over. Each mix is generated from a fixed seed so
+ * that results are comparable between runs.
+ */
+public enum InputMix {
+    // ~90% scalene triangles, the rest other valid types
+    MOSTLY_VALID_SCALENE {
+        @Override
+        void fill(SplittableRandom random, int[] a, int[] b, int[] c, int i) {
+            int x = 100 + random.nextInt(1000);
+            int y = 100 + random.nextInt(1000);
+            int z = Math.abs(x - y) + 1 + random.nextInt(Math.min(x, y) * 2 - 1);
+            if (random.nextInt(10) == 0) {
+                y = x;
+            }
+            set(a, b, c, i, x, y, z);
+        }
+    },
+    // ~70% isosceles, equal pair in every position
+    HEAVY_ISOSCELES {
+        @Override
+        void fill(SplittableRandom random, int[] a, int[] b, int[] c, int i) {
+            int leg = 10 + random.nextInt(1000);
+            int base = 1 + random.nextInt(leg * 2 - 1);
+            if (random.nextInt(10) < 3) {
+                MOSTLY_VALID_SCALENE.fill(random, a, b, c, i);
+                return;
+            }
+            switch (random.nextInt(3)) {
+                case 0 -> set(a, b, c, i, leg, leg, base);
+                case 1 -> set(a, b, c, i, base, leg, leg);
+                default -> set(a, b, c, i, leg, base, leg);
+            }
+        }
+    },
+    // Sides close to Integer.MAX_VALUE where a + b overflows int
+    OVERFLOW_EDGE {
+        @Override
+        void fill(SplittableRandom random, int[] a, int[] b, int[] c, int i) {
+            set(a, b, c, i, nearMax(random), nearMax(random), nearMax(random));
+            if (random.nextInt(4) == 0) {
+                a[i] = random.nextInt(3);
+            }
+        }
+
+        private int nearMax(SplittableRandom random) {
+            return Integer.MAX_VALUE - random.nextInt(1000);
+        }
+    },
+    // ~90% degenerate, zero-side or inequality violations
+    MOSTLY_INVALID {
+        @Override
+        void fill(SplittableRandom random, int[] a, int[] b, int[] c, int i) {
+            if (random.nextInt(10) == 0) {
+                MOSTLY_VALID_SCALENE.fill(random, a, b, c, i);
+                return;
+            }
+            int x = random.nextInt(1000);
+            int y = random.nextInt(1000);
+            set(a, b, c, i, x, y, x + y + random.nextInt(10));
+        }
+    };
+
+    public void fill(long seed, int[] a, int[] b, int[] c) {
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < a.length; i++) {
+            fill(random, a, b, c, i);
+        }
+    }
+
+    abstract void fill(SplittableRandom random, int[] a, int[] b, int[] c, int i);
+
+    private static void set(int[] a, int[] b, int[] c, int i, int x, int y, int z) {
+        a[i] = x;
+        b[i] = y;
+        c[i] = z;
+    }
+}
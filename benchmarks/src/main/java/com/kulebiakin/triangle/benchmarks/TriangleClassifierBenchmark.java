@@ -0,0 +1,104 @@
+package com.kulebiakin.triangle.benchmarks;
+
+import com.kulebiakin.triangle.TriangleClassifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-triple throughput of the {@link TriangleClassifier} methods. Every invocation walks a fixed array of
+ * {@value #SIZE} triples, so the reported ops/s is triples per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class TriangleClassifierBenchmark {
+
+    private static final int SIZE = 1024;
+
+    @Param
+    private InputMix mix;
+
+    private final TriangleClassifier classifier = new TriangleClassifier();
+    private final TriangleClassifier fastest = TriangleClassifier.fastest();
+
+    private final int[] a = new int[SIZE];
+    private final int[] b = new int[SIZE];
+    private final int[] c = new int[SIZE];
+    private final byte[] results = new byte[SIZE];
+
+    @Setup
+    public void setUp() {
+        mix.fill(42, a, b, c);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void classify(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            blackhole.consume(classifier.classify(a[i], b[i], c[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void isValidTriangle(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            blackhole.consume(classifier.isValidTriangle(a[i], b[i], c[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void isEquilateral(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            blackhole.consume(classifier.isEquilateral(a[i], b[i], c[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void isIsosceles(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            blackhole.consume(classifier.isIsosceles(a[i], b[i], c[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void isScalene(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            blackhole.consume(classifier.isScalene(a[i], b[i], c[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public byte[] classifyAll() {
+        classifier.classifyAll(a, b, c, results);
+        return results;
+    }
+
+    // Vector engine when available, see TriangleClassifier.fastest()
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public byte[] classifyAllFastest() {
+        fastest.classifyAll(a, b, c, results);
+        return results;
+    }
+}
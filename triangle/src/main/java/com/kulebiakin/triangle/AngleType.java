@@ -0,0 +1,17 @@
+package com.kulebiakin.triangle;
+
+public enum AngleType {
+    ACUTE("Acute triangle - all angles are less than 90 degrees"),
+    RIGHT("Right triangle - one angle is exactly 90 degrees"),
+    OBTUSE("Obtuse triangle - one angle is greater than 90 degrees");
+
+    private final String description;
+
+    AngleType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
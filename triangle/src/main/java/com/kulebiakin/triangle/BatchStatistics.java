@@ -0,0 +1,92 @@
+package com.kulebiakin.triangle;
+
+import java.io.PrintStream;
+
+/**
+ * Per-stage timings of a {@link TriangleBatchProcessor} run: parsing, classification and writing of every batch
+ * go into {@link LatencyHistogram}s and are emitted as a {@code com.kulebiakin.triangle.Batch} JFR event.
+ */
+public class BatchStatistics {
+
+    private static final double[] PERCENTILES = {50, 99, 99.9};
+
+    private final LatencyHistogram parse = new LatencyHistogram();
+    private final LatencyHistogram classify = new LatencyHistogram();
+    private final LatencyHistogram write = new LatencyHistogram();
+    private final LatencyHistogram batch = new LatencyHistogram();
+    private final long start = System.nanoTime();
+    private long parseTotal;
+    private long classifyTotal;
+    private long writeTotal;
+    private long batches;
+    // Spans the batch in progress, from the start of its parsing until recordBatch()
+    private TriangleBatchEvent event;
+
+    void beginBatch() {
+        event = new TriangleBatchEvent();
+        event.begin();
+    }
+
+    void recordBatch(int records, long parseNanos, long classifyNanos, long writeNanos) {
+        parse.record(parseNanos);
+        classify.record(classifyNanos);
+        write.record(writeNanos);
+        batch.record(parseNanos + classifyNanos + writeNanos);
+        parseTotal += parseNanos;
+        classifyTotal += classifyNanos;
+        writeTotal += writeNanos;
+        batches++;
+
+        TriangleBatchEvent event = this.event != null ? this.event : new TriangleBatchEvent();
+        this.event = null;
+        if (event.shouldCommit()) {
+            event.records = records;
+            event.parseTime = parseNanos;
+            event.classifyTime = classifyNanos;
+            event.writeTime = writeNanos;
+            event.commit();
+        }
+    }
+
+    public long getBatches() {
+        return batches;
+    }
+
+    public LatencyHistogram getBatchLatency() {
+        return batch;
+    }
+
+    public void printSummary(TriangleBatchProcessor.BatchSummary summary, PrintStream out) {
+        long elapsed = System.nanoTime() - start;
+        long records = summary.getRecords();
+        long stages = Math.max(1, parseTotal + classifyTotal + writeTotal);
+
+        out.printf("Records:     %,d in %,d batches, %.3f s, %,.0f records/s%n",
+            records, batches, elapsed / 1e9, elapsed == 0 ? 0 : records * 1e9 / elapsed);
+        printStage(out, "Parse", parseTotal, stages, parse);
+        printStage(out, "Classify", classifyTotal, stages, classify);
+        printStage(out, "Write", writeTotal, stages, write);
+        printStage(out, "Batch", stages, stages, batch);
+
+        for (TriangleType type : TriangleType.values()) {
+            printCount(out, type.name(), summary.getCount(type), records);
+        }
+        printCount(out, "ERROR", summary.getErrors(), records);
+    }
+
+    private static void printStage(PrintStream out, String name, long total, long stages, LatencyHistogram histogram) {
+        out.printf("%-12s %8.3f s (%5.1f%%)", name + ":", total / 1e9, total * 100.0 / stages);
+        for (double percentile : PERCENTILES) {
+            out.printf("  p%s %,10.1f us", format(percentile), histogram.getValueAtPercentile(percentile) / 1e3);
+        }
+        out.println();
+    }
+
+    private static void printCount(PrintStream out, String name, long count, long records) {
+        out.printf("%-16s %,14d (%5.1f%%)%n", name + ":", count, records == 0 ? 0 : count * 100.0 / records);
+    }
+
+    private static String format(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile).replace(".", "");
+    }
+}
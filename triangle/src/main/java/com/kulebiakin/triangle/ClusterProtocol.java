@@ -0,0 +1,74 @@
+package com.kulebiakin.triangle;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Binary framing between {@link TriangleCoordinator} and {@link TriangleWorker}. All numbers are little-endian,
+ * and the sides of a range use the 12-byte record layout of the binary file format so that file ranges can be
+ * shipped without conversion.
+ * <pre>
+ * TASK       type(1) mode(1) first(8) count(4) records(count * 12)
+ * RESULTS    type(1) first(8) count(4) codes(count)
+ * HISTOGRAM  type(1) first(8) counts(TriangleType count * 8) negative(8)
+ * </pre>
+ */
+final class ClusterProtocol {
+
+    static final byte TASK = 1;
+    static final byte RESULTS = 2;
+    static final byte HISTOGRAM = 3;
+
+    static final byte MODE_RESULTS = 0;
+    static final byte MODE_HISTOGRAM = 1;
+
+    static final int RECORD_BYTES = MappedTriangleFileClassifier.RECORD_BYTES;
+    static final int TASK_HEADER = 1 + 1 + 8 + 4;
+    static final int RESULTS_HEADER = 1 + 8 + 4;
+    static final int HISTOGRAM_COUNTERS = TriangleType.values().length + 1;
+    static final int HISTOGRAM_FRAME = 1 + 8 + HISTOGRAM_COUNTERS * 8;
+
+    // Upper bound of a range so that a TASK frame always fits into one array
+    static final int MAX_RANGE = (Integer.MAX_VALUE - TASK_HEADER) / RECORD_BYTES;
+
+    private ClusterProtocol() {
+    }
+
+    static ByteBuffer allocate(int size) {
+        return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    static ByteBuffer readFully(DataInputStream in, ByteBuffer buffer, int length) throws IOException {
+        buffer.clear();
+        in.readFully(buffer.array(), 0, length);
+        buffer.limit(length);
+        return buffer;
+    }
+
+    // Reads the type byte of the next frame, or returns -1 on a clean end of stream
+    static int readType(DataInputStream in) throws IOException {
+        int type = in.read();
+        if (type < 0) {
+            return -1;
+        }
+        return type;
+    }
+
+    static void write(OutputStream out, ByteBuffer buffer) throws IOException {
+        out.write(buffer.array(), 0, buffer.position());
+        out.flush();
+    }
+
+    static void checkType(int actual, byte expected) throws IOException {
+        if (actual < 0) {
+            throw new EOFException("Connection closed");
+        }
+        if (actual != expected) {
+            throw new IOException("Unexpected frame type " + actual + ", expected " + expected);
+        }
+    }
+}
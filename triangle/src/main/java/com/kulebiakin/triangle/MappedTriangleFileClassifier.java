@@ -0,0 +1,135 @@
+package com.kulebiakin.triangle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Classifies a binary file of fixed-width records (three little-endian int32 sides each) into an output file
+ * with one result code byte per record ({@link TriangleType#getCode()} or {@link TriangleClassifier#NEGATIVE_SIDE}).
+ * <p>
+ * Both files are accessed through {@link MappedByteBuffer}s. The records are split into chunks that are mapped
+ * and classified independently on a thread pool, so files larger than 2 GB are handled as several regions.
+ */
+public class MappedTriangleFileClassifier {
+
+    public static final int RECORD_BYTES = 12;
+
+    static final int DEFAULT_CHUNK_RECORDS = 1 << 22; // 48 MB of input per mapped region
+    private static final int BLOCK_RECORDS = 4096;
+
+    private final TriangleClassifier classifier;
+    private final int chunkRecords;
+    private final int parallelism;
+
+    public MappedTriangleFileClassifier(TriangleClassifier classifier) {
+        this(classifier, DEFAULT_CHUNK_RECORDS, Runtime.getRuntime().availableProcessors());
+    }
+
+    MappedTriangleFileClassifier(TriangleClassifier classifier, int chunkRecords, int parallelism) {
+        if (chunkRecords <= 0 || (long) chunkRecords * RECORD_BYTES > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Chunk size must be positive and map to less than 2 GB");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.classifier = classifier;
+        this.chunkRecords = chunkRecords;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @return index of the first record with a negative side, or -1 if there is none
+     */
+    public long classify(Path input, Path output) throws IOException {
+        long size = Files.size(input);
+        if (size % RECORD_BYTES != 0) {
+            throw new IllegalArgumentException("Input size " + size + " is not a multiple of " + RECORD_BYTES + " bytes");
+        }
+        long records = size / RECORD_BYTES;
+
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                 StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (records > 0) {
+                // Size the output up front so that concurrent mappings never have to grow the file
+                out.write(ByteBuffer.wrap(new byte[1]), records - 1);
+            }
+
+            ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+            try {
+                List<Future<Long>> chunks = new ArrayList<>();
+                for (long first = 0; first < records; first += chunkRecords) {
+                    long start = first;
+                    int count = (int) Math.min(chunkRecords, records - first);
+                    chunks.add(executor.submit(() -> classifyChunk(in, out, start, count)));
+                }
+                return firstNegative(chunks);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private long classifyChunk(FileChannel in, FileChannel out, long first, int count) throws IOException {
+        MappedByteBuffer source = in.map(FileChannel.MapMode.READ_ONLY, first * RECORD_BYTES, (long) count * RECORD_BYTES);
+        MappedByteBuffer target = out.map(FileChannel.MapMode.READ_WRITE, first, count);
+        IntBuffer ints = source.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+
+        int[] sides = new int[BLOCK_RECORDS * 3];
+        byte[] results = new byte[BLOCK_RECORDS];
+        long firstNegative = -1;
+        for (int done = 0; done < count; done += BLOCK_RECORDS) {
+            int block = Math.min(BLOCK_RECORDS, count - done);
+            ints.get(sides, 0, block * 3);
+            int negative = classifier.classifyAll(sides, 0, block, results);
+            target.put(results, 0, block);
+            if (negative >= 0 && firstNegative < 0) {
+                firstNegative = first + done + negative;
+            }
+        }
+        return firstNegative;
+    }
+
+    private static long firstNegative(List<Future<Long>> chunks) throws IOException {
+        long firstNegative = -1;
+        try {
+            // Chunks are in file order, so the first chunk that reports a negative record wins
+            for (Future<Long> chunk : chunks) {
+                long negative = chunk.get();
+                if (negative >= 0 && firstNegative < 0) {
+                    firstNegative = negative;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while classifying", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("Chunk classification failed", cause);
+        }
+        return firstNegative;
+    }
+}
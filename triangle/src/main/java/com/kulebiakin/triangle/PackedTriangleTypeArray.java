@@ -0,0 +1,176 @@
+package com.kulebiakin.triangle;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Fixed-size array of {@link TriangleType} values packed into two bits each (four per byte, 32 per {@code long}).
+ * Element {@code i} lives in bits {@code 2 * (i % 32)} and {@code 2 * (i % 32) + 1} of word {@code i / 32}
+ * and stores {@link TriangleType#getCode()}.
+ */
+public class PackedTriangleTypeArray {
+
+    private static final int MAGIC = 0x54524932; // "TRI2"
+    private static final int PER_WORD = 32;
+    private static final long LOW_BITS = 0x5555_5555_5555_5555L;
+    private static final TriangleType[] TYPES = TriangleType.values();
+
+    private final long length;
+    private final long[] words;
+
+    public PackedTriangleTypeArray(long length) {
+        if (length < 0 || (length + PER_WORD - 1) / PER_WORD > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Unsupported length: " + length);
+        }
+        this.length = length;
+        this.words = new long[(int) ((length + PER_WORD - 1) / PER_WORD)];
+    }
+
+    public long length() {
+        return length;
+    }
+
+    public TriangleType get(long index) {
+        return TYPES[getCode(index)];
+    }
+
+    public void set(long index, TriangleType type) {
+        setCode(index, type.getCode());
+    }
+
+    /**
+     * Copies {@code length} elements starting at {@code index} into {@code codes} as {@link TriangleType#getCode()}.
+     */
+    public void getCodes(long index, byte[] codes, int offset, int length) {
+        checkBulk(index, codes.length, offset, length);
+        for (int i = 0; i < length; i++) {
+            codes[offset + i] = (byte) getCode(index + i);
+        }
+    }
+
+    /**
+     * Stores {@code length} result codes, as written by {@link TriangleClassifier#classifyAll}, starting at
+     * {@code index}. Negative-side codes cannot be represented and are rejected before anything is written.
+     */
+    public void setCodes(long index, byte[] codes, int offset, int length) {
+        checkBulk(index, codes.length, offset, length);
+        for (int i = 0; i < length; i++) {
+            byte code = codes[offset + i];
+            if (code < 0 || code >= TYPES.length) {
+                throw new IllegalArgumentException("Code at offset " + (offset + i) + " is not a triangle type: " + code);
+            }
+        }
+
+        int i = 0;
+        // Assemble whole words when the destination is word aligned
+        while (i < length && ((index + i) % PER_WORD != 0)) {
+            setCode(index + i, codes[offset + i]);
+            i++;
+        }
+        while (length - i >= PER_WORD) {
+            long word = 0;
+            for (int bit = 0, j = offset + i; bit < 64; bit += 2, j++) {
+                word |= (long) codes[j] << bit;
+            }
+            words[(int) ((index + i) / PER_WORD)] = word;
+            i += PER_WORD;
+        }
+        for (; i < length; i++) {
+            setCode(index + i, codes[offset + i]);
+        }
+    }
+
+    /**
+     * Counts elements of the given type with two AND masks and a {@link Long#bitCount} per word.
+     */
+    public long count(TriangleType type) {
+        int code = type.getCode();
+        long total = 0;
+        for (long word : words) {
+            long low = code == 1 || code == 3 ? word : ~word;
+            long high = code >= 2 ? word >>> 1 : ~word >>> 1;
+            total += Long.bitCount(low & high & LOW_BITS);
+        }
+        if (code == 0) {
+            // Unused slots of the last word are zero and would be counted as code 0
+            total -= (long) words.length * PER_WORD - length;
+        }
+        return total;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, 1 << 16));
+        data.writeInt(MAGIC);
+        data.writeLong(length);
+        for (long word : words) {
+            data.writeLong(word);
+        }
+        data.flush();
+    }
+
+    public void writeTo(Path file) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            writeTo(out);
+        }
+    }
+
+    public static PackedTriangleTypeArray readFrom(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in, 1 << 16));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a packed triangle type array");
+        }
+        long length = data.readLong();
+        if (length < 0) {
+            throw new IOException("Invalid length: " + length);
+        }
+        PackedTriangleTypeArray array = new PackedTriangleTypeArray(length);
+        for (int i = 0; i < array.words.length; i++) {
+            array.words[i] = data.readLong();
+        }
+        return array;
+    }
+
+    public static PackedTriangleTypeArray readFrom(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return readFrom(in);
+        }
+    }
+
+    private int getCode(long index) {
+        checkIndex(index);
+        return (int) (words[(int) (index / PER_WORD)] >>> shift(index)) & 3;
+    }
+
+    private void setCode(long index, int code) {
+        checkIndex(index);
+        int word = (int) (index / PER_WORD);
+        int shift = shift(index);
+        words[word] = (words[word] & ~(3L << shift)) | ((long) code << shift);
+    }
+
+    private static int shift(long index) {
+        return (int) (index % PER_WORD) * 2;
+    }
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+    }
+
+    private void checkBulk(long index, int arrayLength, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > arrayLength - length) {
+            throw new IndexOutOfBoundsException("Invalid offset " + offset + " and length " + length);
+        }
+        if (index < 0 || index > this.length - length) {
+            throw new IndexOutOfBoundsException("Invalid range " + index + " + " + length + " for length " + this.length);
+        }
+    }
+}
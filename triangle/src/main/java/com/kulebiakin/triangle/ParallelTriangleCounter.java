@@ -0,0 +1,152 @@
+package com.kulebiakin.triangle;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Counts how many triples fall into each {@link TriangleType} without materializing per-triple results.
+ * The input is split with fork-join; every leaf classifies its range in blocks through
+ * {@link TriangleClassifier#classifyAll} and tallies codes into its own primitive counters, which are
+ * summed while joining, so workers never touch shared state.
+ */
+public class ParallelTriangleCounter {
+
+    static final int DEFAULT_THRESHOLD = 1 << 16;
+
+    private static final int BLOCK = 4096;
+    private static final int TYPES = TriangleType.values().length;
+    // counters[TYPES] holds the negative-side count
+    private static final int NEGATIVE = TYPES;
+
+    private final TriangleClassifier classifier;
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    public ParallelTriangleCounter() {
+        this(TriangleClassifier.fastest(), ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    public ParallelTriangleCounter(TriangleClassifier classifier, ForkJoinPool pool, int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive");
+        }
+        this.classifier = classifier;
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    public TriangleHistogram count(int[] a, int[] b, int[] c) {
+        if (a.length != b.length || a.length != c.length) {
+            throw new IllegalArgumentException("Side columns must have the same length");
+        }
+        return toHistogram(pool.invoke(new ColumnTask(a, b, c, 0, a.length)));
+    }
+
+    // Interleaved input: a0, b0, c0, a1, b1, c1, ...
+    public TriangleHistogram count(int[] sides) {
+        if (sides.length % 3 != 0) {
+            throw new IllegalArgumentException("Interleaved sides length must be a multiple of 3");
+        }
+        return toHistogram(pool.invoke(new InterleavedTask(sides, 0, sides.length / 3)));
+    }
+
+    private static TriangleHistogram toHistogram(long[] counters) {
+        long[] counts = new long[TYPES];
+        System.arraycopy(counters, 0, counts, 0, TYPES);
+        return new TriangleHistogram(counts, counters[NEGATIVE]);
+    }
+
+    private static void tally(byte[] results, int length, long[] counters) {
+        for (int i = 0; i < length; i++) {
+            byte code = results[i];
+            counters[code < 0 ? NEGATIVE : code]++;
+        }
+    }
+
+    private abstract class CountTask extends RecursiveTask<long[]> {
+        final int from;
+        final int to;
+
+        CountTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= threshold) {
+                long[] counters = new long[TYPES + 1];
+                countLeaf(counters);
+                return counters;
+            }
+
+            int middle = (from + to) >>> 1;
+            CountTask left = split(from, middle);
+            CountTask right = split(middle, to);
+            left.fork();
+            long[] counters = right.compute();
+            long[] leftCounters = left.join();
+            for (int i = 0; i < counters.length; i++) {
+                counters[i] += leftCounters[i];
+            }
+            return counters;
+        }
+
+        abstract void countLeaf(long[] counters);
+
+        abstract CountTask split(int from, int to);
+    }
+
+    private final class ColumnTask extends CountTask {
+        private final int[] a;
+        private final int[] b;
+        private final int[] c;
+
+        ColumnTask(int[] a, int[] b, int[] c, int from, int to) {
+            super(from, to);
+            this.a = a;
+            this.b = b;
+            this.c = c;
+        }
+
+        @Override
+        void countLeaf(long[] counters) {
+            // Blocks are classified in place into a BLOCK-byte scratch
+            byte[] results = new byte[BLOCK];
+            for (int start = from; start < to; start += BLOCK) {
+                int length = Math.min(BLOCK, to - start);
+                classifier.classifyAll(a, b, c, start, start + length, results, 0);
+                tally(results, length, counters);
+            }
+        }
+
+        @Override
+        CountTask split(int from, int to) {
+            return new ColumnTask(a, b, c, from, to);
+        }
+    }
+
+    private final class InterleavedTask extends CountTask {
+        private final int[] sides;
+
+        InterleavedTask(int[] sides, int from, int to) {
+            super(from, to);
+            this.sides = sides;
+        }
+
+        @Override
+        void countLeaf(long[] counters) {
+            byte[] results = new byte[BLOCK];
+            for (int start = from; start < to; start += BLOCK) {
+                int length = Math.min(BLOCK, to - start);
+                classifier.classifyAll(sides, start, start + length, results, 0);
+                tally(results, length, counters);
+            }
+        }
+
+        @Override
+        CountTask split(int from, int to) {
+            return new InterleavedTask(sides, from, to);
+        }
+    }
+}
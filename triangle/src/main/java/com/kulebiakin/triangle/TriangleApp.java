@@ -1,10 +1,38 @@
 package com.kulebiakin.triangle;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
 
 public class TriangleApp {
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && args[0].equals("--batch")) {
+            runBatch(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--binary")) {
+            runBinary(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--serve")) {
+            runServer(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--worker")) {
+            runWorker(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--coordinate")) {
+            runCoordinator(args);
+            return;
+        }
+
         Scanner scanner = new Scanner(System.in);
         TriangleClassifier classifier = new TriangleClassifier();
 
@@ -30,4 +58,95 @@ public class TriangleApp {
 
         scanner.close();
     }
+
+    // --batch [--stats] [file]: classify one triple per line from the file (or stdin) and print one result per line
+    private static void runBatch(String[] args) throws IOException {
+        boolean stats = false;
+        String file = null;
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].equals("--stats")) {
+                stats = true;
+            } else if (file == null) {
+                file = args[i];
+            } else {
+                System.err.println("Usage: --batch [--stats] [file]");
+                System.exit(2);
+            }
+        }
+
+        BatchStatistics statistics = stats ? new BatchStatistics() : null;
+        TriangleBatchProcessor processor = new TriangleBatchProcessor(
+            TriangleClassifier.fastest(), TriangleBatchProcessor.DEFAULT_BATCH_SIZE, statistics);
+        TriangleBatchProcessor.BatchSummary summary;
+        if (file != null && !file.equals("-")) {
+            try (InputStream in = Files.newInputStream(Path.of(file))) {
+                summary = processor.process(in, System.out);
+            }
+        } else {
+            summary = processor.process(System.in, System.out);
+        }
+
+        if (statistics != null) {
+            statistics.printSummary(summary, System.err);
+        } else {
+            System.err.println("Processed " + summary.getRecords() + " lines, " + summary.getErrors() + " errors");
+        }
+    }
+
+    // --binary <input> <output>: classify int32 little-endian records into one result byte per record
+    private static void runBinary(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("Usage: --binary <input> <output>");
+            System.exit(2);
+        }
+
+        Path input = Path.of(args[1]);
+        MappedTriangleFileClassifier fileClassifier = new MappedTriangleFileClassifier(TriangleClassifier.fastest());
+        long firstNegative = fileClassifier.classify(input, Path.of(args[2]));
+
+        System.err.println("Processed " + Files.size(input) / MappedTriangleFileClassifier.RECORD_BYTES + " records");
+        if (firstNegative >= 0) {
+            System.err.println("First record with a negative side: " + firstNegative);
+        }
+    }
+
+    // --serve [port]: run the HTTP classification service on localhost until the process is stopped
+    private static void runServer(String[] args) throws IOException {
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 8080;
+        TriangleServer server = TriangleServer.start(new InetSocketAddress("localhost", port));
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        System.err.println("Listening on http://localhost:" + server.getPort());
+    }
+
+    // --worker [port]: accept ranges from coordinators until the process is stopped
+    private static void runWorker(String[] args) throws IOException {
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 7070;
+        TriangleWorker worker = TriangleWorker.start(new InetSocketAddress(port));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                worker.close();
+            } catch (IOException e) {
+                // exiting anyway
+            }
+        }));
+        System.err.println("Worker listening on port " + worker.getPort());
+    }
+
+    // --coordinate <host:port,...> <input> <output>: classify a binary file on the given workers
+    private static void runCoordinator(String[] args) throws IOException {
+        if (args.length != 4) {
+            System.err.println("Usage: --coordinate <host:port,...> <input> <output>");
+            System.exit(2);
+        }
+
+        List<InetSocketAddress> workers = new ArrayList<>();
+        for (String worker : args[1].split(",")) {
+            int separator = worker.lastIndexOf(':');
+            workers.add(new InetSocketAddress(worker.substring(0, separator), Integer.parseInt(worker.substring(separator + 1))));
+        }
+
+        Path input = Path.of(args[2]);
+        new TriangleCoordinator(workers).classifyFile(input, Path.of(args[3]));
+        System.err.println("Processed " + Files.size(input) / MappedTriangleFileClassifier.RECORD_BYTES + " records");
+    }
 }
@@ -0,0 +1,30 @@
+package com.kulebiakin.triangle;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("com.kulebiakin.triangle.Batch")
+@Label("Triangle Batch")
+@Category("Triangle")
+@Description("One batch of triples parsed, classified and written in batch mode")
+final class TriangleBatchEvent extends Event {
+
+    @Label("Records")
+    int records;
+
+    @Label("Parse Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long parseTime;
+
+    @Label("Classify Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long classifyTime;
+
+    @Label("Write Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long writeTime;
+}
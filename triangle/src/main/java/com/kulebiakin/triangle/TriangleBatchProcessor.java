@@ -0,0 +1,255 @@
+package com.kulebiakin.triangle;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Non-interactive classification of many triples. Reads one triple per line, separated by whitespace and/or commas,
+ * and writes one output line per non-blank input line: the {@link TriangleType} name, or {@code ERROR line N: ...}
+ * when the line cannot be parsed or has a negative side. A bad line never aborts the run.
+ * <p>
+ * Input is parsed byte by byte straight out of a large buffer, collected into side columns and classified
+ * a batch at a time through {@link TriangleClassifier#classifyAll(int[], int[], int[], int, int, byte[])}.
+ */
+public class TriangleBatchProcessor {
+
+    public static final int DEFAULT_BATCH_SIZE = 8192;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final long MAX_MAGNITUDE = 1L + Integer.MAX_VALUE;
+    private static final String NEGATIVE_SIDES_MESSAGE = "Side lengths cannot be negative";
+
+    private final TriangleClassifier classifier;
+    private final int batchSize;
+    private final BatchStatistics statistics;
+
+    public TriangleBatchProcessor(TriangleClassifier classifier) {
+        this(classifier, DEFAULT_BATCH_SIZE, null);
+    }
+
+    public TriangleBatchProcessor(TriangleClassifier classifier, int batchSize) {
+        this(classifier, batchSize, null);
+    }
+
+    // statistics may be null; when set, every batch reports its parse, classify and write times to it
+    public TriangleBatchProcessor(TriangleClassifier classifier, int batchSize, BatchStatistics statistics) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.classifier = classifier;
+        this.batchSize = batchSize;
+        this.statistics = statistics;
+    }
+
+    public BatchSummary process(InputStream in, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.US_ASCII), BUFFER_SIZE);
+        Run run = new Run(writer);
+        run.parse(in);
+        writer.flush();
+        return run.summary;
+    }
+
+    // Parser and batch state of a single process() call
+    private final class Run {
+        private final Writer writer;
+        private final BatchSummary summary = new BatchSummary();
+
+        private final int[] a = new int[batchSize];
+        private final int[] b = new int[batchSize];
+        private final int[] c = new int[batchSize];
+        private final byte[] results = new byte[batchSize];
+        private final String[] errors = new String[batchSize];
+        private final long[] lines = new long[batchSize];
+        private int size;
+
+        private final int[] sides = new int[3];
+        private long line = 1;
+        private int field;
+        private boolean inNumber;
+        private boolean hasDigits;
+        private boolean negative;
+        private long value;
+        private String error;
+
+        private long parseStart;
+
+        Run(Writer writer) {
+            this.writer = writer;
+            beginBatch();
+        }
+
+        void parse(InputStream in) throws IOException {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                for (int i = 0; i < read; i++) {
+                    accept(buffer[i]);
+                }
+            }
+            endLine();
+            flush();
+        }
+
+        private void accept(byte ch) throws IOException {
+            if (ch == '\n') {
+                endLine();
+                line++;
+                return;
+            }
+            if (error != null) {
+                return;
+            }
+
+            if (ch >= '0' && ch <= '9') {
+                if (!inNumber) {
+                    startNumber();
+                }
+                hasDigits = true;
+                value = value * 10 + (ch - '0');
+                if (value > MAX_MAGNITUDE) {
+                    error = "Value out of range";
+                }
+            } else if (ch == '-' || ch == '+') {
+                if (inNumber) {
+                    error = "Unexpected character '" + (char) ch + "'";
+                    return;
+                }
+                startNumber();
+                negative = ch == '-';
+            } else if (ch == ' ' || ch == '\t' || ch == ',' || ch == '\r') {
+                endNumber();
+            } else {
+                error = "Unexpected character '" + printable(ch) + "'";
+            }
+        }
+
+        private void startNumber() {
+            if (field == 3) {
+                error = "Expected 3 sides but found more";
+                return;
+            }
+            inNumber = true;
+            hasDigits = false;
+            negative = false;
+            value = 0;
+        }
+
+        private void endNumber() {
+            if (!inNumber || error != null) {
+                return;
+            }
+            inNumber = false;
+            if (!hasDigits) {
+                error = "Sign without digits";
+                return;
+            }
+            long signed = negative ? -value : value;
+            if (signed > Integer.MAX_VALUE) {
+                error = "Value out of range";
+                return;
+            }
+            sides[field++] = (int) signed;
+        }
+
+        private void endLine() throws IOException {
+            endNumber();
+            if (error == null && field == 0) {
+                return; // blank line
+            }
+            if (error == null && field != 3) {
+                error = "Expected 3 sides but found " + field;
+            }
+
+            lines[size] = line;
+            errors[size] = error;
+            if (error == null) {
+                a[size] = sides[0];
+                b[size] = sides[1];
+                c[size] = sides[2];
+            } else {
+                a[size] = 0;
+                b[size] = 0;
+                c[size] = 0;
+            }
+            size++;
+
+            field = 0;
+            inNumber = false;
+            error = null;
+
+            if (size == batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            if (size == 0) {
+                return;
+            }
+            long classifyStart = System.nanoTime();
+            classifier.classifyAll(a, b, c, 0, size, results);
+            long writeStart = System.nanoTime();
+
+            for (int i = 0; i < size; i++) {
+                String message = errors[i];
+                if (message == null && results[i] == TriangleClassifier.NEGATIVE_SIDE) {
+                    message = NEGATIVE_SIDES_MESSAGE;
+                }
+                if (message != null) {
+                    summary.errors++;
+                    writer.write("ERROR line ");
+                    writer.write(Long.toString(lines[i]));
+                    writer.write(": ");
+                    writer.write(message);
+                } else {
+                    summary.counts[results[i]]++;
+                    writer.write(TriangleType.fromCode(results[i]).name());
+                }
+                writer.write('\n');
+            }
+            summary.records += size;
+
+            if (statistics != null) {
+                long end = System.nanoTime();
+                statistics.recordBatch(size, classifyStart - parseStart, writeStart - classifyStart, end - writeStart);
+            }
+            size = 0;
+            beginBatch();
+        }
+
+        private void beginBatch() {
+            if (statistics != null) {
+                statistics.beginBatch();
+            }
+            parseStart = System.nanoTime();
+        }
+
+        private String printable(byte ch) {
+            return ch >= 0x20 && ch < 0x7f ? String.valueOf((char) ch) : String.format("\\x%02x", ch & 0xff);
+        }
+    }
+
+    public static class BatchSummary {
+        private final long[] counts = new long[TriangleType.values().length];
+        private long records;
+        private long errors;
+
+        // Number of non-blank input lines, including those reported as errors
+        public long getRecords() {
+            return records;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public long getCount(TriangleType type) {
+            return counts[type.ordinal()];
+        }
+    }
+}
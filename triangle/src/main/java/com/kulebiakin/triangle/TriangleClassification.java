@@ -0,0 +1,47 @@
+package com.kulebiakin.triangle;
+
+/**
+ * Side and angle classification of one triple. There are only ten possible combinations,
+ * so instances are shared and never allocated per call.
+ */
+public final class TriangleClassification {
+
+    private static final TriangleClassification NOT_A_TRIANGLE =
+        new TriangleClassification(TriangleType.NOT_A_TRIANGLE, null);
+    private static final TriangleClassification[][] TRIANGLES =
+        new TriangleClassification[TriangleType.values().length][AngleType.values().length];
+
+    static {
+        for (TriangleType type : TriangleType.values()) {
+            for (AngleType angle : AngleType.values()) {
+                TRIANGLES[type.ordinal()][angle.ordinal()] = new TriangleClassification(type, angle);
+            }
+        }
+    }
+
+    private final TriangleType type;
+    private final AngleType angle;
+
+    private TriangleClassification(TriangleType type, AngleType angle) {
+        this.type = type;
+        this.angle = angle;
+    }
+
+    static TriangleClassification of(TriangleType type, AngleType angle) {
+        return type == TriangleType.NOT_A_TRIANGLE ? NOT_A_TRIANGLE : TRIANGLES[type.ordinal()][angle.ordinal()];
+    }
+
+    public TriangleType getType() {
+        return type;
+    }
+
+    // null when the sides do not form a triangle
+    public AngleType getAngle() {
+        return angle;
+    }
+
+    @Override
+    public String toString() {
+        return angle == null ? type.name() : type + " " + angle;
+    }
+}
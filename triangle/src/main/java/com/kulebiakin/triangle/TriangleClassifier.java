@@ -2,6 +2,34 @@ package com.kulebiakin.triangle;
 
 public class TriangleClassifier {
 
+    // Result code written by the bulk methods for a triple with a negative side
+    public static final byte NEGATIVE_SIDE = -1;
+
+    private static final byte EQUILATERAL = TriangleType.EQUILATERAL.getCode();
+    private static final byte ISOSCELES = TriangleType.ISOSCELES.getCode();
+    private static final byte SCALENE = TriangleType.SCALENE.getCode();
+    private static final byte NOT_A_TRIANGLE = TriangleType.NOT_A_TRIANGLE.getCode();
+
+    private static final int PACKED_BLOCK = 4096;
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_CLASSIFIER = "com.kulebiakin.triangle.VectorTriangleClassifier";
+
+    /**
+     * Returns the fastest bulk classifier available in this JVM: the SIMD {@link VectorTriangleClassifier}
+     * when the {@code jdk.incubator.vector} module is resolved, otherwise a plain scalar classifier.
+     */
+    public static TriangleClassifier fastest() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            try {
+                return (TriangleClassifier) Class.forName(VECTOR_CLASSIFIER).getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // fall through to the scalar implementation
+            }
+        }
+        return new TriangleClassifier();
+    }
+
     public boolean isValidTriangle(int a, int b, int c) {
         // Check that sides are positive
         if (a <= 0 || b <= 0 || c <= 0) {
@@ -47,4 +75,181 @@ public class TriangleClassifier {
             return TriangleType.SCALENE;
         }
     }
+
+    public AngleType classifyAngle(int a, int b, int c) {
+        if (a < 0 || b < 0 || c < 0) {
+            throw new IllegalArgumentException("Side lengths cannot be negative");
+        }
+        if (!isValidTriangle(a, b, c)) {
+            throw new IllegalArgumentException("Sides do not form a triangle");
+        }
+        return angleOf(a, b, c);
+    }
+
+    // Side and angle classification in one pass; the angle is null for NOT_A_TRIANGLE
+    public TriangleClassification classifyWithAngle(int a, int b, int c) {
+        byte code = classifyCode(a, b, c);
+        if (code == NEGATIVE_SIDE) {
+            throw new IllegalArgumentException("Side lengths cannot be negative");
+        }
+        TriangleType type = TriangleType.fromCode(code);
+        return TriangleClassification.of(type, type == TriangleType.NOT_A_TRIANGLE ? null : angleOf(a, b, c));
+    }
+
+    /**
+     * Compares the square of the longest side with the sum of the squares of the other two (law of cosines).
+     * A side is below 2^31, so its square is below 2^62 and the sum of two squares below 2^63:
+     * the comparison is exact in long arithmetic and needs no floating point.
+     */
+    private static AngleType angleOf(int a, int b, int c) {
+        long longest;
+        long x;
+        long y;
+        if (a >= b && a >= c) {
+            longest = a;
+            x = b;
+            y = c;
+        } else if (b >= c) {
+            longest = b;
+            x = a;
+            y = c;
+        } else {
+            longest = c;
+            x = a;
+            y = b;
+        }
+        long sumOfSquares = x * x + y * y;
+        int comparison = Long.compare(sumOfSquares, longest * longest);
+        if (comparison > 0) {
+            return AngleType.ACUTE;
+        }
+        return comparison == 0 ? AngleType.RIGHT : AngleType.OBTUSE;
+    }
+
+    /**
+     * Classifies triples stored as three side columns and writes one result code per triple
+     * ({@link TriangleType#getCode()}, or {@link #NEGATIVE_SIDE} where {@link #classify} would throw).
+     *
+     * @return index of the first triple with a negative side, or -1 if there is none
+     */
+    public int classifyAll(int[] a, int[] b, int[] c, byte[] results) {
+        if (a.length != b.length || a.length != c.length) {
+            throw new IllegalArgumentException("Side columns must have the same length");
+        }
+        return classifyAll(a, b, c, 0, a.length, results);
+    }
+
+    // Same as above, restricted to the triples in [from, to)
+    public int classifyAll(int[] a, int[] b, int[] c, int from, int to, byte[] results) {
+        return classifyAll(a, b, c, from, to, results, from);
+    }
+
+    /**
+     * Classifies the triples in [from, to) of the side columns into {@code results} starting at
+     * {@code resultsOffset}, so a block of large columns can be classified in place into a small buffer. The other
+     * column overloads delegate here; engines override this method. Every ranged overload takes the range before the
+     * output, {@code (sides..., from, to, results[, resultsOffset])}.
+     *
+     * @return index of the first triple with a negative side, or -1 if there is none
+     */
+    public int classifyAll(int[] a, int[] b, int[] c, int from, int to, byte[] results, int resultsOffset) {
+        checkRange(from, to, Math.min(a.length, Math.min(b.length, c.length)), resultsOffset, results.length);
+
+        int firstNegative = -1;
+        for (int i = from, r = resultsOffset; i < to; i++, r++) {
+            byte code = classifyCode(a[i], b[i], c[i]);
+            results[r] = code;
+            if (code == NEGATIVE_SIDE && firstNegative < 0) {
+                firstNegative = i;
+            }
+        }
+        return firstNegative;
+    }
+
+    /**
+     * Classifies triples stored as three side columns straight into a packed array, starting at {@code offset}.
+     * Triples go through the bulk {@link #classifyAll(int[], int[], int[], int, int, byte[], int)} a block at a time.
+     * A negative side cannot be represented in the packed array, so like {@link #classify} it is rejected with an
+     * {@link IllegalArgumentException}; blocks before the one holding it have been written by then.
+     */
+    public void classifyAll(int[] a, int[] b, int[] c, PackedTriangleTypeArray results, long offset) {
+        if (a.length != b.length || a.length != c.length) {
+            throw new IllegalArgumentException("Side columns must have the same length");
+        }
+        if (offset < 0 || offset > results.length() - a.length) {
+            throw new IndexOutOfBoundsException("Invalid offset " + offset + " for " + a.length + " triples");
+        }
+        byte[] codes = new byte[Math.min(a.length, PACKED_BLOCK)];
+        for (int start = 0; start < a.length; start += PACKED_BLOCK) {
+            int end = Math.min(start + PACKED_BLOCK, a.length);
+            int negative = classifyAll(a, b, c, start, end, codes, 0);
+            if (negative >= 0) {
+                throw new IllegalArgumentException("Side lengths cannot be negative (triple " + negative + ")");
+            }
+            results.setCodes(offset + start, codes, 0, end - start);
+        }
+    }
+
+    /**
+     * Classifies triples stored interleaved as {@code a0, b0, c0, a1, b1, c1, ...}.
+     *
+     * @return index of the first triple with a negative side, or -1 if there is none
+     */
+    public int classifyAll(int[] sides, byte[] results) {
+        if (sides.length % 3 != 0) {
+            throw new IllegalArgumentException("Interleaved sides length must be a multiple of 3");
+        }
+        return classifyAll(sides, 0, sides.length / 3, results);
+    }
+
+    // Same as above, restricted to the triples in [from, to)
+    public int classifyAll(int[] sides, int from, int to, byte[] results) {
+        return classifyAll(sides, from, to, results, from);
+    }
+
+    // Same as above, writing the results from resultsOffset on like the column overload
+    public int classifyAll(int[] sides, int from, int to, byte[] results, int resultsOffset) {
+        checkRange(from, to, sides.length / 3, resultsOffset, results.length);
+
+        int firstNegative = -1;
+        for (int i = from, j = from * 3, r = resultsOffset; i < to; i++, j += 3, r++) {
+            byte code = classifyCode(sides[j], sides[j + 1], sides[j + 2]);
+            results[r] = code;
+            if (code == NEGATIVE_SIDE && firstNegative < 0) {
+                firstNegative = i;
+            }
+        }
+        return firstNegative;
+    }
+
+    // Single-pass equivalent of classify() returning a result code instead of an enum or exception
+    static byte classifyCode(int a, int b, int c) {
+        if ((a | b | c) < 0) {
+            return NEGATIVE_SIDE;
+        }
+
+        // A zero side always fails one of the inequalities, so no separate positivity check is needed
+        long la = a;
+        long lb = b;
+        long lc = c;
+        if (la + lb <= lc || lb + lc <= la || la + lc <= lb) {
+            return NOT_A_TRIANGLE;
+        }
+
+        int equalPairs = (a == b ? 1 : 0) + (b == c ? 1 : 0) + (a == c ? 1 : 0);
+        if (equalPairs == 0) {
+            return SCALENE;
+        }
+        return equalPairs == 3 ? EQUILATERAL : ISOSCELES;
+    }
+
+    private static void checkRange(int from, int to, int sidesLength, int resultsOffset, int resultsLength) {
+        if (from < 0 || from > to || to > sidesLength) {
+            throw new IndexOutOfBoundsException("Invalid range [" + from + ", " + to + ") for " + sidesLength + " triples");
+        }
+        if (resultsOffset < 0 || resultsOffset > resultsLength - (to - from)) {
+            throw new IndexOutOfBoundsException("Results array is too small: " + resultsLength + " < "
+                + ((long) resultsOffset + to - from));
+        }
+    }
 }
@@ -0,0 +1,355 @@
+package com.kulebiakin.triangle;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Differential verification of an alternative {@link TriangleClassifier} against the reference semantics of
+ * {@link TriangleClassifier#classify}. Both the candidate's {@code classify} and its column {@code classifyAll}
+ * are checked, so subclasses that only override the bulk path (such as {@link VectorTriangleClassifier}) are covered.
+ * <p>
+ * {@link #verifyExhaustive(int)} enumerates every canonical triple {@code a <= b <= c <= bound} and expands it back
+ * to all of its distinct permutations; {@link #fuzz(long, long)} generates random triples biased towards the
+ * overflow and degenerate boundaries. Both run on all cores and stop at the first mismatch, which is shrunk to a
+ * minimal reproducer.
+ */
+public class TriangleClassifierVerifier {
+
+    private static final int BLOCK = 4096;
+    private static final int FUZZ_TASKS_PER_CORE = 4;
+    // Pseudo code for a bulk call whose returned first-negative index disagrees with its result codes
+    private static final byte WRONG_NEGATIVE_INDEX = -2;
+
+    private final TriangleClassifier reference = new TriangleClassifier();
+    private final TriangleClassifier candidate;
+    private final ForkJoinPool pool;
+
+    public TriangleClassifierVerifier(TriangleClassifier candidate) {
+        this(candidate, ForkJoinPool.commonPool());
+    }
+
+    public TriangleClassifierVerifier(TriangleClassifier candidate, ForkJoinPool pool) {
+        this.candidate = candidate;
+        this.pool = pool;
+    }
+
+    public Report verifyExhaustive(int bound) {
+        if (bound < 0) {
+            throw new IllegalArgumentException("Bound cannot be negative");
+        }
+        Run run = new Run();
+        // Larger c values carry more triples, so they are submitted first for better balancing
+        pool.submit(() -> IntStream.rangeClosed(0, bound).parallel()
+            .map(i -> bound - i)
+            .forEach(c -> {
+                Block block = new Block(run);
+                for (int b = 0; b <= c && !run.stopped(); b++) {
+                    for (int a = 0; a <= b; a++) {
+                        block.addPermutations(a, b, c);
+                    }
+                }
+                block.check();
+            })).join();
+        return run.report();
+    }
+
+    public Report fuzz(long samples, long seed) {
+        if (samples < 0) {
+            throw new IllegalArgumentException("Sample count cannot be negative");
+        }
+        Run run = new Run();
+        int tasks = pool.getParallelism() * FUZZ_TASKS_PER_CORE;
+        long[] seeds = new SplittableRandom(seed).longs(tasks).toArray();
+        pool.submit(() -> IntStream.range(0, tasks).parallel().forEach(task -> {
+            long count = samples / tasks + (task < samples % tasks ? 1 : 0);
+            SplittableRandom random = new SplittableRandom(seeds[task]);
+            Block block = new Block(run);
+            for (long i = 0; i < count && !run.stopped(); i++) {
+                int a = edgeValue(random);
+                int b = random.nextInt(4) == 0 ? a : edgeValue(random);
+                block.add(a, b, thirdSide(random, a, b));
+            }
+            block.check();
+        })).join();
+        return run.report();
+    }
+
+    private static int edgeValue(SplittableRandom random) {
+        switch (random.nextInt(7)) {
+            case 0:
+                return Integer.MAX_VALUE - random.nextInt(64);
+            case 1:
+                return Integer.MAX_VALUE / 2 - 32 + random.nextInt(64);
+            case 2:
+                return random.nextInt(16);
+            case 3:
+                return -1 - random.nextInt(4);
+            case 4:
+                return Integer.MIN_VALUE + random.nextInt(4);
+            default:
+                return random.nextInt() & Integer.MAX_VALUE;
+        }
+    }
+
+    // Third side around the degenerate boundary a + b, clamped into the int range
+    private static int thirdSide(SplittableRandom random, int a, int b) {
+        if (random.nextInt(3) == 0) {
+            return edgeValue(random);
+        }
+        long sum = (long) a + b + random.nextInt(5) - 2;
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, sum));
+    }
+
+    private byte referenceCode(int a, int b, int c) {
+        if (a < 0 || b < 0 || c < 0) {
+            // classify() throws for negative sides; skip the costly exception on the reference side
+            return TriangleClassifier.NEGATIVE_SIDE;
+        }
+        try {
+            return reference.classify(a, b, c).getCode();
+        } catch (IllegalArgumentException e) {
+            return TriangleClassifier.NEGATIVE_SIDE;
+        }
+    }
+
+    private byte candidateCode(int a, int b, int c) {
+        try {
+            return candidate.classify(a, b, c).getCode();
+        } catch (IllegalArgumentException e) {
+            return TriangleClassifier.NEGATIVE_SIDE;
+        }
+    }
+
+    private byte candidateBulkCode(int a, int b, int c) {
+        byte[] result = new byte[1];
+        int firstNegative = candidate.classifyAll(new int[]{a}, new int[]{b}, new int[]{c}, result);
+        boolean negative = result[0] == TriangleClassifier.NEGATIVE_SIDE;
+        return (firstNegative == 0) == negative ? result[0] : WRONG_NEGATIVE_INDEX;
+    }
+
+    private boolean mismatches(int a, int b, int c) {
+        byte expected = referenceCode(a, b, c);
+        return candidateCode(a, b, c) != expected || candidateBulkCode(a, b, c) != expected;
+    }
+
+    // Greedily moves every side towards zero while the candidate still disagrees with the reference
+    private Mismatch shrink(int a, int b, int c) {
+        int[] sides = {a, b, c};
+        boolean progress = true;
+        while (progress) {
+            progress = false;
+            for (int i = 0; i < 3; i++) {
+                int original = sides[i];
+                for (long step = Math.abs((long) original); step > 0; step /= 2) {
+                    sides[i] = (int) (original - Long.signum(original) * step);
+                    if (mismatches(sides[0], sides[1], sides[2])) {
+                        progress = true;
+                        break;
+                    }
+                    sides[i] = original;
+                }
+            }
+        }
+        a = sides[0];
+        b = sides[1];
+        c = sides[2];
+        return new Mismatch(a, b, c, describe(referenceCode(a, b, c)),
+            describe(candidateCode(a, b, c)), describe(candidateBulkCode(a, b, c)));
+    }
+
+    private static String describe(byte code) {
+        if (code == WRONG_NEGATIVE_INDEX) {
+            return "wrong first negative index";
+        }
+        return code == TriangleClassifier.NEGATIVE_SIDE ? "IllegalArgumentException" : TriangleType.fromCode(code).name();
+    }
+
+    // Shared state of one verification run
+    private final class Run {
+        private final long start = System.nanoTime();
+        private final LongAdder checked = new LongAdder();
+        private final AtomicReference<Mismatch> mismatch = new AtomicReference<>();
+
+        boolean stopped() {
+            return mismatch.get() != null;
+        }
+
+        void report(int a, int b, int c) {
+            Mismatch found = shrink(a, b, c);
+            mismatch.accumulateAndGet(found, (current, next) -> current == null || next.size() < current.size() ? next : current);
+        }
+
+        Report report() {
+            return new Report(checked.sum(), System.nanoTime() - start, mismatch.get());
+        }
+    }
+
+    // Worker-local column buffers checked through the candidate's bulk path
+    private final class Block {
+        private final Run run;
+        private final int[] a = new int[BLOCK];
+        private final int[] b = new int[BLOCK];
+        private final int[] c = new int[BLOCK];
+        private final byte[] results = new byte[BLOCK];
+        private int size;
+
+        Block(Run run) {
+            this.run = run;
+        }
+
+        void addPermutations(int x, int y, int z) {
+            add(x, y, z);
+            if (x == y && y == z) {
+                return;
+            }
+            add(z, x, y);
+            add(y, z, x);
+            if (x == y || y == z) {
+                return; // the three rotations already cover every distinct permutation
+            }
+            add(y, x, z);
+            add(x, z, y);
+            add(z, y, x);
+        }
+
+        void add(int x, int y, int z) {
+            a[size] = x;
+            b[size] = y;
+            c[size] = z;
+            if (++size == BLOCK) {
+                check();
+            }
+        }
+
+        void check() {
+            if (size == 0 || run.stopped()) {
+                size = 0;
+                return;
+            }
+            int firstNegative = candidate.classifyAll(a, b, c, 0, size, results);
+            int expectedFirstNegative = -1;
+            for (int i = 0; i < size; i++) {
+                byte expected = referenceCode(a[i], b[i], c[i]);
+                if (expected == TriangleClassifier.NEGATIVE_SIDE && expectedFirstNegative < 0) {
+                    expectedFirstNegative = i;
+                }
+                if (results[i] != expected || candidateCode(a[i], b[i], c[i]) != expected) {
+                    run.report(a[i], b[i], c[i]);
+                    break;
+                }
+            }
+            if (!run.stopped() && firstNegative != expectedFirstNegative) {
+                int i = firstNegative < 0 || (expectedFirstNegative >= 0 && expectedFirstNegative < firstNegative)
+                    ? expectedFirstNegative : firstNegative;
+                run.report(a[i], b[i], c[i]);
+            }
+            run.checked.add(size);
+            size = 0;
+        }
+    }
+
+    public static final class Report {
+        private final long checked;
+        private final long elapsedNanos;
+        private final Mismatch mismatch;
+
+        Report(long checked, long elapsedNanos, Mismatch mismatch) {
+            this.checked = checked;
+            this.elapsedNanos = elapsedNanos;
+            this.mismatch = mismatch;
+        }
+
+        public long getChecked() {
+            return checked;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        public double getTriplesPerSecond() {
+            return elapsedNanos == 0 ? 0 : checked * 1e9 / elapsedNanos;
+        }
+
+        public boolean isPassed() {
+            return mismatch == null;
+        }
+
+        // First (smallest) disagreement found, or null when the candidate matched everywhere
+        public Mismatch getMismatch() {
+            return mismatch;
+        }
+
+        @Override
+        public String toString() {
+            String result = mismatch == null ? "PASSED" : "FAILED: " + mismatch;
+            return String.format("%s (%,d triples in %.2f s, %,.0f triples/s)",
+                result, checked, elapsedNanos / 1e9, getTriplesPerSecond());
+        }
+    }
+
+    public static final class Mismatch {
+        private final int a;
+        private final int b;
+        private final int c;
+        private final String expected;
+        private final String actual;
+        private final String actualBulk;
+
+        Mismatch(int a, int b, int c, String expected, String actual, String actualBulk) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.expected = expected;
+            this.actual = actual;
+            this.actualBulk = actualBulk;
+        }
+
+        public int getA() {
+            return a;
+        }
+
+        public int getB() {
+            return b;
+        }
+
+        public int getC() {
+            return c;
+        }
+
+        long size() {
+            return Math.abs((long) a) + Math.abs((long) b) + Math.abs((long) c);
+        }
+
+        @Override
+        public String toString() {
+            return "classify(" + a + ", " + b + ", " + c + ") expected " + expected
+                + " but candidate returned " + actual + " (classifyAll: " + actualBulk + ")";
+        }
+    }
+
+    /**
+     * Verifies {@link TriangleClassifier#fastest()}: {@code [bound] [fuzz samples] [seed]}.
+     */
+    public static void main(String[] args) {
+        int bound = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        long samples = args.length > 1 ? Long.parseLong(args[1]) : 100_000_000L;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+
+        TriangleClassifier candidate = TriangleClassifier.fastest();
+        TriangleClassifierVerifier verifier = new TriangleClassifierVerifier(candidate);
+        System.out.println("Candidate: " + candidate.getClass().getName());
+
+        Report exhaustive = verifier.verifyExhaustive(bound);
+        System.out.println("Exhaustive, sides <= " + bound + ": " + exhaustive);
+        Report fuzz = verifier.fuzz(samples, seed);
+        System.out.println("Fuzz, seed " + seed + ": " + fuzz);
+
+        if (!exhaustive.isPassed() || !fuzz.isPassed()) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package com.kulebiakin.triangle;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Fans classification out to {@link TriangleWorker} processes. The input is split into ranges of records that are
+ * handed to the workers over TCP, one range in flight per worker connection. When a worker fails mid-range the
+ * connection is dropped and the range goes back to the queue for the remaining workers; the run only fails
+ * once no worker is left. A worker that stops answering counts as failed once the read timeout passes. Errors
+ * reading the input or writing the output are not the workers' fault and abort the run at once.
+ */
+public class TriangleCoordinator {
+
+    static final int DEFAULT_RANGE_SIZE = 1 << 16;
+    static final int DEFAULT_READ_TIMEOUT_MILLIS = 60_000;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int CONNECT_TIMEOUT_MILLIS = 5000;
+
+    private final List<InetSocketAddress> workers;
+    private final int rangeSize;
+    private final int readTimeoutMillis;
+
+    public TriangleCoordinator(List<InetSocketAddress> workers) {
+        this(workers, DEFAULT_RANGE_SIZE);
+    }
+
+    public TriangleCoordinator(List<InetSocketAddress> workers, int rangeSize) {
+        this(workers, rangeSize, DEFAULT_READ_TIMEOUT_MILLIS);
+    }
+
+    // readTimeoutMillis bounds the wait for each reply; a worker silent for longer loses its range
+    public TriangleCoordinator(List<InetSocketAddress> workers, int rangeSize, int readTimeoutMillis) {
+        if (workers.isEmpty()) {
+            throw new IllegalArgumentException("At least one worker is required");
+        }
+        if (rangeSize <= 0 || rangeSize > ClusterProtocol.MAX_RANGE) {
+            throw new IllegalArgumentException("Invalid range size: " + rangeSize);
+        }
+        if (readTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Invalid read timeout: " + readTimeoutMillis);
+        }
+        this.workers = List.copyOf(workers);
+        this.rangeSize = rangeSize;
+        this.readTimeoutMillis = readTimeoutMillis;
+    }
+
+    // Interleaved input: a0, b0, c0, a1, ...; returns one result code per triple
+    public byte[] classify(int[] sides) throws IOException {
+        checkInterleaved(sides);
+        byte[] results = new byte[sides.length / 3];
+        run(results.length, ClusterProtocol.MODE_RESULTS, new ArraySource(sides),
+            (first, codes, count) -> System.arraycopy(codes, 0, results, (int) first, count), null);
+        return results;
+    }
+
+    public TriangleHistogram count(int[] sides) throws IOException {
+        checkInterleaved(sides);
+        long[] counters = new long[ClusterProtocol.HISTOGRAM_COUNTERS];
+        run(sides.length / 3, ClusterProtocol.MODE_HISTOGRAM, new ArraySource(sides), null, counters);
+        return toHistogram(counters);
+    }
+
+    /**
+     * Classifies a binary file of 12-byte little-endian records (see {@link MappedTriangleFileClassifier}) into an
+     * output file with one result code per record. Ranges are read and written positionally, so the files are
+     * never loaded whole.
+     */
+    public void classifyFile(Path input, Path output) throws IOException {
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                 StandardOpenOption.WRITE)) {
+            run(records(input), ClusterProtocol.MODE_RESULTS, new FileSource(in), (first, codes, count) -> {
+                ByteBuffer buffer = ByteBuffer.wrap(codes, 0, count);
+                long position = first;
+                while (buffer.hasRemaining()) {
+                    position += out.write(buffer, position);
+                }
+            }, null);
+        }
+    }
+
+    public TriangleHistogram countFile(Path input) throws IOException {
+        long[] counters = new long[ClusterProtocol.HISTOGRAM_COUNTERS];
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            run(records(input), ClusterProtocol.MODE_HISTOGRAM, new FileSource(in), null, counters);
+        }
+        return toHistogram(counters);
+    }
+
+    private static long records(Path input) throws IOException {
+        long size = Files.size(input);
+        if (size % ClusterProtocol.RECORD_BYTES != 0) {
+            throw new IllegalArgumentException("Input size " + size + " is not a multiple of "
+                + ClusterProtocol.RECORD_BYTES + " bytes");
+        }
+        return size / ClusterProtocol.RECORD_BYTES;
+    }
+
+    private static void checkInterleaved(int[] sides) {
+        if (sides.length % 3 != 0) {
+            throw new IllegalArgumentException("Interleaved sides length must be a multiple of 3");
+        }
+    }
+
+    private static TriangleHistogram toHistogram(long[] counters) {
+        long[] counts = new long[counters.length - 1];
+        System.arraycopy(counters, 0, counts, 0, counts.length);
+        return new TriangleHistogram(counts, counters[counters.length - 1]);
+    }
+
+    private void run(long records, byte mode, Source source, Sink sink, long[] counters) throws IOException {
+        Deque<long[]> ranges = new ArrayDeque<>();
+        for (long first = 0; first < records; first += rangeSize) {
+            ranges.add(new long[]{first, Math.min(rangeSize, records - first)});
+        }
+        Job job = new Job(ranges, workers.size());
+
+        List<Thread> threads = new ArrayList<>();
+        for (InetSocketAddress worker : workers) {
+            Thread thread = new Thread(() -> drive(worker, job, mode, source, sink, counters),
+                "triangle-coordinator-" + worker);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+
+        try {
+            job.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for workers", e);
+        } finally {
+            for (Thread thread : threads) {
+                thread.interrupt();
+            }
+        }
+    }
+
+    // Feeds ranges to one worker until the job is done or the worker fails
+    private void drive(InetSocketAddress address, Job job, byte mode, Source source, Sink sink, long[] counters) {
+        long[] range = null;
+        try (Socket socket = new Socket()) {
+            socket.connect(address, CONNECT_TIMEOUT_MILLIS);
+            socket.setTcpNoDelay(true);
+            socket.setSoTimeout(readTimeoutMillis);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE));
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE);
+            ByteBuffer task = ClusterProtocol.allocate(ClusterProtocol.TASK_HEADER + rangeSize * ClusterProtocol.RECORD_BYTES);
+            ByteBuffer reply = ClusterProtocol.allocate(Math.max(ClusterProtocol.HISTOGRAM_FRAME, ClusterProtocol.RESULTS_HEADER));
+            byte[] codes = new byte[mode == ClusterProtocol.MODE_RESULTS ? rangeSize : 0];
+            long[] rangeCounters = new long[ClusterProtocol.HISTOGRAM_COUNTERS];
+
+            while ((range = job.take()) != null) {
+                long first = range[0];
+                int count = (int) range[1];
+
+                task.clear();
+                task.put(ClusterProtocol.TASK).put(mode).putLong(first).putInt(count);
+                try {
+                    source.read(first, count, task);
+                } catch (IOException e) {
+                    throw new LocalIOException("Cannot read records " + first + "+" + count, e);
+                }
+                ClusterProtocol.write(out, task);
+
+                if (mode == ClusterProtocol.MODE_RESULTS) {
+                    ClusterProtocol.checkType(ClusterProtocol.readType(in), ClusterProtocol.RESULTS);
+                    ClusterProtocol.readFully(in, reply, ClusterProtocol.RESULTS_HEADER - 1);
+                    checkReply(reply.getLong(), first, reply.getInt(), count);
+                    in.readFully(codes, 0, count);
+                    try {
+                        sink.write(first, codes, count);
+                    } catch (IOException e) {
+                        throw new LocalIOException("Cannot write results " + first + "+" + count, e);
+                    }
+                } else {
+                    ClusterProtocol.checkType(ClusterProtocol.readType(in), ClusterProtocol.HISTOGRAM);
+                    ClusterProtocol.readFully(in, reply, ClusterProtocol.HISTOGRAM_FRAME - 1);
+                    checkReply(reply.getLong(), first, count, count);
+                    for (int i = 0; i < rangeCounters.length; i++) {
+                        rangeCounters[i] = reply.getLong();
+                    }
+                    job.merge(counters, rangeCounters);
+                }
+                job.complete();
+                range = null;
+            }
+        } catch (LocalIOException e) {
+            job.abort(e);
+        } catch (IOException e) {
+            job.fail(address + ": " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            job.workerGone(range);
+        }
+    }
+
+    private static void checkReply(long first, long expectedFirst, int count, int expectedCount) throws IOException {
+        if (first != expectedFirst || count != expectedCount) {
+            throw new IOException("Reply for range " + first + "+" + count + " does not match request "
+                + expectedFirst + "+" + expectedCount);
+        }
+    }
+
+    // Range bookkeeping shared by the per-worker threads
+    private static final class Job {
+        private final Deque<long[]> pending;
+        private final int total;
+        private int completed;
+        private int workersAlive;
+        private final List<String> failures = new ArrayList<>();
+        private IOException abort;
+
+        Job(Deque<long[]> pending, int workers) {
+            this.pending = pending;
+            this.total = pending.size();
+            this.workersAlive = workers;
+        }
+
+        // Next range to process, or null once every range is complete or the job is aborted
+        synchronized long[] take() throws InterruptedException {
+            while (pending.isEmpty() && completed < total && abort == null) {
+                wait(); // a failing worker may still hand its range back
+            }
+            return abort == null ? pending.poll() : null;
+        }
+
+        synchronized void complete() {
+            completed++;
+            notifyAll();
+        }
+
+        synchronized void merge(long[] counters, long[] rangeCounters) {
+            for (int i = 0; i < counters.length; i++) {
+                counters[i] += rangeCounters[i];
+            }
+        }
+
+        synchronized void fail(String message) {
+            failures.add(message);
+        }
+
+        synchronized void abort(IOException cause) {
+            if (abort == null) {
+                abort = cause;
+            }
+            notifyAll();
+        }
+
+        synchronized void workerGone(long[] unfinished) {
+            if (unfinished != null) {
+                pending.addFirst(unfinished);
+            }
+            workersAlive--;
+            notifyAll();
+        }
+
+        synchronized void await() throws InterruptedException, IOException {
+            while (completed < total && workersAlive > 0 && abort == null) {
+                wait();
+            }
+            if (abort != null) {
+                throw abort;
+            }
+            if (completed < total) {
+                throw new IOException("All workers failed with " + (total - completed) + " of " + total
+                    + " ranges unfinished: " + failures);
+            }
+        }
+    }
+
+    // Failure of the coordinator's own input or output, as opposed to the connection to a worker
+    private static final class LocalIOException extends IOException {
+        LocalIOException(String message, IOException cause) {
+            super(message + ": " + cause.getMessage(), cause);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Source {
+        // Appends records [first, first + count) in the 12-byte little-endian layout
+        void read(long first, int count, ByteBuffer target) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Sink {
+        void write(long first, byte[] codes, int count) throws IOException;
+    }
+
+    private static final class ArraySource implements Source {
+        private final int[] sides;
+
+        ArraySource(int[] sides) {
+            this.sides = sides;
+        }
+
+        @Override
+        public void read(long first, int count, ByteBuffer target) {
+            int start = (int) first * 3;
+            target.asIntBuffer().put(sides, start, count * 3);
+            target.position(target.position() + count * ClusterProtocol.RECORD_BYTES);
+        }
+    }
+
+    private static final class FileSource implements Source {
+        private final FileChannel channel;
+
+        FileSource(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void read(long first, int count, ByteBuffer target) throws IOException {
+            ByteBuffer slice = target.slice();
+            slice.limit(count * ClusterProtocol.RECORD_BYTES);
+            long position = first * ClusterProtocol.RECORD_BYTES;
+            while (slice.hasRemaining()) {
+                int read = channel.read(slice, position + slice.position());
+                if (read < 0) {
+                    throw new IOException("Unexpected end of input at record " + first);
+                }
+            }
+            target.position(target.position() + count * ClusterProtocol.RECORD_BYTES);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.kulebiakin.triangle;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Immutable per-{@link TriangleType} counts of a classified input, plus the number of triples rejected
+ * for having a negative side.
+ */
+public final class TriangleHistogram {
+
+    private final long[] counts;
+    private final long negative;
+
+    TriangleHistogram(long[] counts, long negative) {
+        this.counts = counts.clone();
+        this.negative = negative;
+    }
+
+    public long getCount(TriangleType type) {
+        return counts[type.ordinal()];
+    }
+
+    // Triples with non-negative sides that violate the triangle inequality
+    public long getInvalidCount() {
+        return getCount(TriangleType.NOT_A_TRIANGLE);
+    }
+
+    public long getNegativeCount() {
+        return negative;
+    }
+
+    public long getTotal() {
+        long total = negative;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    public Map<TriangleType, Long> asMap() {
+        Map<TriangleType, Long> map = new EnumMap<>(TriangleType.class);
+        for (TriangleType type : TriangleType.values()) {
+            map.put(type, counts[type.ordinal()]);
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TriangleHistogram)) {
+            return false;
+        }
+        TriangleHistogram other = (TriangleHistogram) o;
+        return negative == other.negative && Arrays.equals(counts, other.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(counts) + Long.hashCode(negative);
+    }
+
+    @Override
+    public String toString() {
+        return "TriangleHistogram" + asMap() + ", NEGATIVE=" + negative;
+    }
+}
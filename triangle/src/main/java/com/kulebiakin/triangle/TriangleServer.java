@@ -0,0 +1,209 @@
+package com.kulebiakin.triangle;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local HTTP front end for {@link TriangleClassifier} built on the JDK's {@code com.sun.net.httpserver}.
+ * <ul>
+ *     <li>{@code GET /classify?a=3&b=4&c=5} - classifies one triple, responds with the type name</li>
+ *     <li>{@code POST /classify/batch} - streams one triple per line in and one result per line out,
+ *     in the format of {@link TriangleBatchProcessor}</li>
+ *     <li>{@code GET /metrics} - request counts and latency percentiles per endpoint</li>
+ * </ul>
+ * Requests run on a virtual thread each when the JVM supports them, otherwise on a cached thread pool.
+ */
+public class TriangleServer implements AutoCloseable {
+
+    private static final String TEXT_PLAIN = "text/plain; charset=utf-8";
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final TriangleClassifier classifier;
+    private final Map<String, EndpointMetrics> metrics = new LinkedHashMap<>();
+
+    private TriangleServer(HttpServer server, ExecutorService executor, TriangleClassifier classifier) {
+        this.server = server;
+        this.executor = executor;
+        this.classifier = classifier;
+
+        register("/classify", this::classifyOne);
+        register("/classify/batch", this::classifyBatch);
+        server.createContext("/metrics", this::metrics);
+    }
+
+    public static TriangleServer start(InetSocketAddress address) throws IOException {
+        return start(address, TriangleClassifier.fastest());
+    }
+
+    public static TriangleServer start(InetSocketAddress address, TriangleClassifier classifier) throws IOException {
+        HttpServer server = HttpServer.create(address, 0);
+        ExecutorService executor = newRequestExecutor();
+        server.setExecutor(executor);
+        TriangleServer triangleServer = new TriangleServer(server, executor, classifier);
+        server.start();
+        return triangleServer;
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void register(String path, HttpHandler handler) {
+        EndpointMetrics endpoint = new EndpointMetrics();
+        metrics.put(path, endpoint);
+        server.createContext(path, exchange -> {
+            long start = System.nanoTime();
+            try {
+                handler.handle(exchange);
+            } finally {
+                endpoint.requests.increment();
+                if (exchange.getResponseCode() >= 400 || exchange.getResponseCode() < 0) {
+                    endpoint.errors.increment();
+                }
+                endpoint.latency.record(System.nanoTime() - start);
+                exchange.close();
+            }
+        });
+    }
+
+    private void classifyOne(HttpExchange exchange) throws IOException {
+        if (!checkRequest(exchange, "/classify", "GET")) {
+            return;
+        }
+        Map<String, String> query = parseQuery(exchange.getRequestURI());
+        int[] sides = new int[3];
+        String[] names = {"a", "b", "c"};
+        for (int i = 0; i < 3; i++) {
+            String value = query.get(names[i]);
+            if (value == null) {
+                respond(exchange, 400, "Missing parameter '" + names[i] + "'\n");
+                return;
+            }
+            try {
+                sides[i] = Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                respond(exchange, 400, "Invalid parameter '" + names[i] + "': " + value + "\n");
+                return;
+            }
+        }
+
+        try {
+            respond(exchange, 200, classifier.classify(sides[0], sides[1], sides[2]) + "\n");
+        } catch (IllegalArgumentException e) {
+            respond(exchange, 400, e.getMessage() + "\n");
+        }
+    }
+
+    private void classifyBatch(HttpExchange exchange) throws IOException {
+        if (!checkRequest(exchange, "/classify/batch", "POST")) {
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", TEXT_PLAIN);
+        exchange.sendResponseHeaders(200, 0); // chunked: results are streamed while the body is read
+        try (OutputStream out = exchange.getResponseBody()) {
+            new TriangleBatchProcessor(classifier).process(exchange.getRequestBody(), out);
+        }
+    }
+
+    private void metrics(HttpExchange exchange) throws IOException {
+        if (!checkRequest(exchange, "/metrics", "GET")) {
+            return;
+        }
+        StringBuilder body = new StringBuilder();
+        for (Map.Entry<String, EndpointMetrics> entry : metrics.entrySet()) {
+            EndpointMetrics endpoint = entry.getValue();
+            String label = "{endpoint=\"" + entry.getKey() + "\"";
+            body.append("triangle_requests_total").append(label).append("} ")
+                .append(endpoint.requests.sum()).append('\n');
+            body.append("triangle_request_errors_total").append(label).append("} ")
+                .append(endpoint.errors.sum()).append('\n');
+            for (double percentile : PERCENTILES) {
+                body.append("triangle_request_latency_seconds").append(label)
+                    .append(",quantile=\"").append(percentile / 100).append("\"} ")
+                    .append(endpoint.latency.getValueAtPercentile(percentile) / 1e9).append('\n');
+            }
+        }
+        respond(exchange, 200, body.toString());
+    }
+
+    private static boolean checkRequest(HttpExchange exchange, String path, String method) throws IOException {
+        if (!exchange.getRequestURI().getPath().equals(path)) {
+            respond(exchange, 404, "Not found\n");
+            return false;
+        }
+        if (!exchange.getRequestMethod().equals(method)) {
+            exchange.getResponseHeaders().set("Allow", method);
+            respond(exchange, 405, "Method not allowed\n");
+            return false;
+        }
+        return true;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", TEXT_PLAIN);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> parseQuery(URI uri) {
+        Map<String, String> query = new LinkedHashMap<>();
+        String raw = uri.getRawQuery();
+        if (raw == null) {
+            return query;
+        }
+        for (String pair : raw.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                query.put(decode(pair.substring(0, separator)), decode(pair.substring(separator + 1)));
+            }
+        }
+        return query;
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor() is looked up reflectively so the module still targets Java 17
+    private static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService) MethodHandles.publicLookup()
+                .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class))
+                .invoke();
+        } catch (Throwable e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    private static final class EndpointMetrics {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+    }
+}
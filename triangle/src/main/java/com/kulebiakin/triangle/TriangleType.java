@@ -6,6 +6,8 @@ public enum TriangleType {
     SCALENE("Scalene triangle - all sides are different"),
     NOT_A_TRIANGLE("Not a valid triangle - violates triangle inequality");
 
+    private static final TriangleType[] VALUES = values();
+
     private final String description;
 
     TriangleType(String description) {
@@ -15,4 +17,16 @@ public enum TriangleType {
     public String getDescription() {
         return description;
     }
+
+    // Result code written by the bulk classification methods
+    public byte getCode() {
+        return (byte) ordinal();
+    }
+
+    public static TriangleType fromCode(byte code) {
+        if (code < 0 || code >= VALUES.length) {
+            throw new IllegalArgumentException("Unknown triangle type code: " + code);
+        }
+        return VALUES[code];
+    }
 }
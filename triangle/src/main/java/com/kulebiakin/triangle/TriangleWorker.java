@@ -0,0 +1,135 @@
+package com.kulebiakin.triangle;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Classification worker for {@link TriangleCoordinator}. Accepts coordinator connections over TCP and answers
+ * every TASK frame with the result codes or the histogram of its range, see {@link ClusterProtocol}.
+ */
+public class TriangleWorker implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final ServerSocket serverSocket;
+    private final TriangleClassifier classifier;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+
+    private TriangleWorker(ServerSocket serverSocket, TriangleClassifier classifier) {
+        this.serverSocket = serverSocket;
+        this.classifier = classifier;
+    }
+
+    public static TriangleWorker start(InetSocketAddress address) throws IOException {
+        return start(address, TriangleClassifier.fastest());
+    }
+
+    public static TriangleWorker start(InetSocketAddress address, TriangleClassifier classifier) throws IOException {
+        ServerSocket serverSocket = new ServerSocket();
+        serverSocket.bind(address);
+        TriangleWorker worker = new TriangleWorker(serverSocket, classifier);
+        // Non-daemon, so a worker keeps its JVM alive until closed
+        new Thread(worker::acceptLoop, "triangle-worker-" + serverSocket.getLocalPort()).start();
+        return worker;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public InetSocketAddress getAddress() {
+        return new InetSocketAddress(serverSocket.getInetAddress(), serverSocket.getLocalPort());
+    }
+
+    // Stops accepting and drops open connections; coordinators reassign the ranges in flight
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (Socket socket : connections) {
+            socket.close();
+        }
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                connections.add(socket);
+                Thread handler = new Thread(() -> serve(socket), "triangle-worker-connection");
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException e) {
+                // closed
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE));
+             OutputStream out = new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE)) {
+            ByteBuffer header = ClusterProtocol.allocate(ClusterProtocol.TASK_HEADER);
+            ByteBuffer histogram = ClusterProtocol.allocate(ClusterProtocol.HISTOGRAM_FRAME);
+            ByteBuffer records = ClusterProtocol.allocate(0);
+            int[] sides = new int[0];
+            byte[] results = new byte[0];
+
+            int type;
+            while ((type = ClusterProtocol.readType(in)) >= 0) {
+                ClusterProtocol.checkType(type, ClusterProtocol.TASK);
+                ClusterProtocol.readFully(in, header, ClusterProtocol.TASK_HEADER - 1);
+                byte mode = header.get();
+                long first = header.getLong();
+                int count = header.getInt();
+                if (count < 0 || count > ClusterProtocol.MAX_RANGE) {
+                    throw new IOException("Invalid range size " + count);
+                }
+
+                if (sides.length < count * 3) {
+                    sides = new int[count * 3];
+                    results = new byte[count];
+                    records = ClusterProtocol.allocate(count * ClusterProtocol.RECORD_BYTES);
+                }
+                ClusterProtocol.readFully(in, records, count * ClusterProtocol.RECORD_BYTES).asIntBuffer().get(sides, 0, count * 3);
+                classifier.classifyAll(sides, 0, count, results);
+
+                if (mode == ClusterProtocol.MODE_HISTOGRAM) {
+                    long[] counters = new long[ClusterProtocol.HISTOGRAM_COUNTERS];
+                    for (int i = 0; i < count; i++) {
+                        byte code = results[i];
+                        counters[code < 0 ? counters.length - 1 : code]++;
+                    }
+                    histogram.clear();
+                    histogram.put(ClusterProtocol.HISTOGRAM).putLong(first);
+                    for (long counter : counters) {
+                        histogram.putLong(counter);
+                    }
+                    ClusterProtocol.write(out, histogram);
+                } else {
+                    ByteBuffer reply = ClusterProtocol.allocate(ClusterProtocol.RESULTS_HEADER);
+                    reply.put(ClusterProtocol.RESULTS).putLong(first).putInt(count);
+                    out.write(reply.array());
+                    out.write(results, 0, count);
+                    out.flush();
+                }
+            }
+        } catch (SocketException e) {
+            // coordinator went away or the worker was closed
+        } catch (IOException e) {
+            System.err.println("Worker connection failed: " + e.getMessage());
+        } finally {
+            connections.remove(socket);
+        }
+    }
+}
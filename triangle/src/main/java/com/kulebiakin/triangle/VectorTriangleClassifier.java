@@ -0,0 +1,126 @@
+package com.kulebiakin.triangle;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.stream.IntStream;
+
+/**
+ * Bulk classifier that evaluates the triangle inequality and side equalities for a full vector of triples
+ * per iteration using the incubating JDK Vector API. Requires {@code --add-modules jdk.incubator.vector};
+ * obtain it through {@link TriangleClassifier#fastest()} to fall back to the scalar path when unavailable.
+ */
+public class VectorTriangleClassifier extends TriangleClassifier {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    // One result byte per int lane (128-bit byte vectors for 512-bit int vectors); 64 bits is the smallest shape
+    private static final VectorSpecies<Byte> BYTES =
+        VectorSpecies.of(byte.class, VectorShape.forBitSize(Math.max(64, INTS.length() * Byte.SIZE)));
+    private static final boolean FULL_STORE = BYTES.length() == INTS.length();
+    private static final VectorMask<Byte> RESULT_LANES = BYTES.indexInRange(0, INTS.length());
+    // Lane n of an interleaved gather reads side n * 3 past the first triple of the vector
+    private static final int[] STRIDE = IntStream.range(0, INTS.length()).map(lane -> lane * 3).toArray();
+
+    private static final byte EQUILATERAL = TriangleType.EQUILATERAL.getCode();
+    private static final byte ISOSCELES = TriangleType.ISOSCELES.getCode();
+    private static final byte SCALENE = TriangleType.SCALENE.getCode();
+    private static final byte NOT_A_TRIANGLE = TriangleType.NOT_A_TRIANGLE.getCode();
+
+    @Override
+    public int classifyAll(int[] a, int[] b, int[] c, int from, int to, byte[] results, int resultsOffset) {
+        if (from < 0 || from > to || to > Math.min(a.length, Math.min(b.length, c.length))
+            || resultsOffset < 0 || resultsOffset > results.length - (to - from)) {
+            return super.classifyAll(a, b, c, from, to, results, resultsOffset); // reports the range error
+        }
+
+        int shift = resultsOffset - from;
+        int firstNegative = -1;
+        int i = from;
+        int upperBound = from + INTS.loopBound(to - from);
+        for (; i < upperBound; i += INTS.length()) {
+            int lane = classifyVector(IntVector.fromArray(INTS, a, i), IntVector.fromArray(INTS, b, i),
+                IntVector.fromArray(INTS, c, i), results, i + shift);
+            if (firstNegative < 0 && lane >= 0) {
+                firstNegative = i + lane;
+            }
+        }
+
+        for (; i < to; i++) {
+            byte code = classifyCode(a[i], b[i], c[i]);
+            results[i + shift] = code;
+            if (code == NEGATIVE_SIDE && firstNegative < 0) {
+                firstNegative = i;
+            }
+        }
+        return firstNegative;
+    }
+
+    /**
+     * Interleaved counterpart of the column overload: each side of a vector of triples is gathered from the
+     * stride-3 layout with {@link #STRIDE}, so binary files and worker ranges need no de-interleaving copy.
+     */
+    @Override
+    public int classifyAll(int[] sides, int from, int to, byte[] results, int resultsOffset) {
+        if (from < 0 || from > to || to > sides.length / 3
+            || resultsOffset < 0 || resultsOffset > results.length - (to - from)) {
+            return super.classifyAll(sides, from, to, results, resultsOffset); // reports the range error
+        }
+
+        int shift = resultsOffset - from;
+        int firstNegative = -1;
+        int i = from;
+        int upperBound = from + INTS.loopBound(to - from);
+        for (; i < upperBound; i += INTS.length()) {
+            int j = i * 3;
+            int lane = classifyVector(IntVector.fromArray(INTS, sides, j, STRIDE, 0),
+                IntVector.fromArray(INTS, sides, j + 1, STRIDE, 0),
+                IntVector.fromArray(INTS, sides, j + 2, STRIDE, 0), results, i + shift);
+            if (firstNegative < 0 && lane >= 0) {
+                firstNegative = i + lane;
+            }
+        }
+
+        for (int j = i * 3; i < to; i++, j += 3) {
+            byte code = classifyCode(sides[j], sides[j + 1], sides[j + 2]);
+            results[i + shift] = code;
+            if (code == NEGATIVE_SIDE && firstNegative < 0) {
+                firstNegative = i;
+            }
+        }
+        return firstNegative;
+    }
+
+    // Writes the codes of one vector of triples to results[r]; returns the lane of the first negative side, or -1
+    private static int classifyVector(IntVector va, IntVector vb, IntVector vc, byte[] results, int r) {
+        VectorMask<Integer> negative = va.or(vb).or(vc).compare(VectorOperators.LT, 0);
+
+        // a + b > c rewritten as a > c - b: with non-negative sides the difference cannot overflow,
+        // which gives the same exactness as widening to long without halving the lane count
+        VectorMask<Integer> valid = va.compare(VectorOperators.GT, vc.sub(vb))
+            .and(vb.compare(VectorOperators.GT, va.sub(vc)))
+            .and(vc.compare(VectorOperators.GT, vb.sub(va)));
+
+        VectorMask<Integer> ab = va.compare(VectorOperators.EQ, vb);
+        VectorMask<Integer> bc = vb.compare(VectorOperators.EQ, vc);
+        VectorMask<Integer> ac = va.compare(VectorOperators.EQ, vc);
+        VectorMask<Integer> equilateral = ab.and(bc);
+
+        IntVector codes = IntVector.broadcast(INTS, SCALENE)
+            .blend(ISOSCELES, ab.or(bc).or(ac))
+            .blend(EQUILATERAL, equilateral)
+            .blend(NOT_A_TRIANGLE, valid.not())
+            .blend(TriangleClassifier.NEGATIVE_SIDE, negative);
+
+        ByteVector bytes = (ByteVector) codes.castShape(BYTES, 0);
+        if (FULL_STORE) {
+            bytes.intoArray(results, r);
+        } else {
+            bytes.intoArray(results, r, RESULT_LANES);
+        }
+        return negative.anyTrue() ? negative.firstTrue() : -1;
+    }
+}
@@ -0,0 +1,70 @@
+package com.kulebiakin.triangle;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchStatisticsTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Statistics should record every batch and print throughput, percentiles and distribution")
+    void testSummary() throws IOException {
+        BatchStatistics statistics = new BatchStatistics();
+        TriangleBatchProcessor.BatchSummary summary = process(statistics, "3 4 5\n3 3 3\n3 3 5\nbad\n1 2 3\n");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        statistics.printSummary(summary, new PrintStream(out, true, StandardCharsets.UTF_8));
+        String text = out.toString(StandardCharsets.UTF_8);
+
+        assertThat(statistics.getBatches()).isEqualTo(3);
+        assertThat(statistics.getBatchLatency().getCount()).isEqualTo(3);
+        assertThat(text)
+            .contains("records/s")
+            .contains("Parse:", "Classify:", "Write:", "p50", "p99", "p999")
+            .containsPattern("SCALENE:\\s+1 \\( 20.0%\\)")
+            .containsPattern("ERROR:\\s+1 \\( 20.0%\\)");
+    }
+
+    @Test
+    @DisplayName("Statistics should emit one JFR event spanning each batch")
+    void testJfrEvents() throws IOException {
+        Path file = dir.resolve("batch.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.kulebiakin.triangle.Batch");
+            recording.start();
+            process(new BatchStatistics(), "3 4 5\n3 3 3\n3 3 5\n");
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertThat(events).hasSize(2);
+        assertThat(events).extracting(event -> event.getInt("records")).containsExactlyInAnyOrder(2, 1);
+        // Each event spans its batch rather than being stamped once the batch is done
+        assertThat(events).allSatisfy(event -> assertThat(event.getDuration()).isPositive());
+        assertThat(events).allSatisfy(event -> assertThat(event.getDuration().toNanos()).isGreaterThanOrEqualTo(
+            event.getLong("classifyTime") + event.getLong("writeTime")));
+    }
+
+    private TriangleBatchProcessor.BatchSummary process(BatchStatistics statistics, String input) throws IOException {
+        TriangleBatchProcessor processor = new TriangleBatchProcessor(new TriangleClassifier(), 2, statistics);
+        return processor.process(new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII)),
+            new ByteArrayOutputStream());
+    }
+}
@@ -0,0 +1,82 @@
+package com.kulebiakin.triangle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedTriangleFileClassifierTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("classify: Output bytes should match classify across several mapped chunks")
+    void testMatchesClassifyAcrossChunks() throws IOException {
+        int records = 10_007;
+        Random random = new Random(7);
+        int[] sides = new int[records * 3];
+        for (int i = 0; i < sides.length; i++) {
+            sides[i] = random.nextInt(10) == 0 ? Integer.MAX_VALUE - random.nextInt(3) : random.nextInt(10);
+        }
+        sides[5000 * 3 + 1] = -4;
+        sides[9000 * 3] = -1;
+
+        Path input = write(sides);
+        Path output = dir.resolve("out.bin");
+
+        long firstNegative = new MappedTriangleFileClassifier(new TriangleClassifier(), 1000, 3).classify(input, output);
+
+        byte[] results = Files.readAllBytes(output);
+        assertThat(firstNegative).isEqualTo(5000);
+        assertThat(results).hasSize(records);
+        TriangleClassifier classifier = new TriangleClassifier();
+        for (int i = 0; i < records; i++) {
+            int a = sides[i * 3];
+            int b = sides[i * 3 + 1];
+            int c = sides[i * 3 + 2];
+            byte expected = (a | b | c) < 0
+                ? TriangleClassifier.NEGATIVE_SIDE
+                : classifier.classify(a, b, c).getCode();
+            assertThat(results[i]).as("record %d", i).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("classify: Empty input should produce an empty output file")
+    void testEmptyFile() throws IOException {
+        Path input = write(new int[0]);
+        Path output = dir.resolve("out.bin");
+
+        assertThat(new MappedTriangleFileClassifier(new TriangleClassifier()).classify(input, output)).isEqualTo(-1);
+        assertThat(Files.size(output)).isZero();
+    }
+
+    @Test
+    @DisplayName("classify: Truncated records should be rejected")
+    void testTruncatedInput() throws IOException {
+        Path input = dir.resolve("in.bin");
+        Files.write(input, new byte[13]);
+
+        assertThatThrownBy(() -> new MappedTriangleFileClassifier(new TriangleClassifier())
+            .classify(input, dir.resolve("out.bin")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Path write(int[] sides) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(sides.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asIntBuffer().put(sides);
+        Path input = dir.resolve("in.bin");
+        Files.write(input, buffer.array());
+        return input;
+    }
+}
@@ -0,0 +1,143 @@
+package com.kulebiakin.triangle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PackedTriangleTypeArrayTest {
+
+    private static final TriangleType[] TYPES = TriangleType.values();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("set/get: Should store every type in two bits without touching neighbours")
+    void testSetAndGet() {
+        PackedTriangleTypeArray array = new PackedTriangleTypeArray(70);
+        for (int i = 0; i < 70; i++) {
+            array.set(i, TYPES[i % TYPES.length]);
+        }
+        array.set(33, TriangleType.EQUILATERAL);
+
+        for (int i = 0; i < 70; i++) {
+            TriangleType expected = i == 33 ? TriangleType.EQUILATERAL : TYPES[i % TYPES.length];
+            assertThat(array.get(i)).as("index %d", i).isEqualTo(expected);
+        }
+        assertThatThrownBy(() -> array.get(70)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("setCodes/getCodes/count: Bulk access and counts should match element-wise values")
+    void testBulkAccessAndCounts() {
+        int length = 1001;
+        Random random = new Random(3);
+        byte[] codes = new byte[length];
+        long[] expectedCounts = new long[TYPES.length];
+        for (int i = 0; i < length; i++) {
+            codes[i] = (byte) random.nextInt(TYPES.length);
+            expectedCounts[codes[i]]++;
+        }
+
+        PackedTriangleTypeArray array = new PackedTriangleTypeArray(length + 5);
+        array.setCodes(5, codes, 0, length);
+        byte[] read = new byte[length];
+        array.getCodes(5, read, 0, length);
+
+        assertThat(read).isEqualTo(codes);
+        for (TriangleType type : TYPES) {
+            long expected = expectedCounts[type.ordinal()] + (type == TriangleType.EQUILATERAL ? 5 : 0);
+            assertThat(array.count(type)).as(type.name()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("setCodes: Should reject negative-side codes without writing")
+    void testSetCodesRejectsNegativeCode() {
+        PackedTriangleTypeArray array = new PackedTriangleTypeArray(3);
+        byte[] codes = {TriangleType.SCALENE.getCode(), TriangleClassifier.NEGATIVE_SIDE, 0};
+
+        assertThatThrownBy(() -> array.setCodes(0, codes, 0, 3)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(array.get(0)).isEqualTo(TriangleType.EQUILATERAL);
+    }
+
+    @Test
+    @DisplayName("writeTo/readFrom: Should round-trip through a file")
+    void testSerialization() throws IOException {
+        PackedTriangleTypeArray array = new PackedTriangleTypeArray(100);
+        for (int i = 0; i < 100; i++) {
+            array.set(i, TYPES[(i * 7) % TYPES.length]);
+        }
+        Path file = dir.resolve("types.bin");
+
+        array.writeTo(file);
+        PackedTriangleTypeArray read = PackedTriangleTypeArray.readFrom(file);
+
+        assertThat(Files.size(file)).isEqualTo(4 + 8 + 4 * 8);
+        assertThat(read.length()).isEqualTo(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(read.get(i)).isEqualTo(array.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("classifyAll: Classifier should write straight into a packed array")
+    void testClassifyAllIntoPackedArray() {
+        TriangleClassifier classifier = new TriangleClassifier();
+        int[] a = {3, 3, 5, 1, 0};
+        int[] b = {4, 3, 3, 2, 3};
+        int[] c = {5, 3, 3, 3, 3};
+        PackedTriangleTypeArray array = new PackedTriangleTypeArray(6);
+
+        classifier.classifyAll(a, b, c, array, 1);
+
+        assertThat(array.get(1)).isEqualTo(TriangleType.SCALENE);
+        assertThat(array.get(2)).isEqualTo(TriangleType.EQUILATERAL);
+        assertThat(array.get(3)).isEqualTo(TriangleType.ISOSCELES);
+        assertThat(array.count(TriangleType.NOT_A_TRIANGLE)).isEqualTo(2);
+
+        assertThatThrownBy(() -> classifier.classifyAll(new int[]{-1}, new int[]{1}, new int[]{1}, array, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("classifyAll: Packed results should go through the engine's bulk path")
+    void testClassifyAllIntoPackedArrayUsesBulkPath() {
+        int n = 10_000;
+        Random random = new Random(n);
+        int[] a = random.ints(n, 0, 6).toArray();
+        int[] b = random.ints(n, 0, 6).toArray();
+        int[] c = random.ints(n, 0, 6).toArray();
+        byte[] expected = new byte[n];
+        new TriangleClassifier().classifyAll(a, b, c, expected);
+        int[] bulkCalls = new int[1];
+        TriangleClassifier vector = new VectorTriangleClassifier() {
+            @Override
+            public int classifyAll(int[] a, int[] b, int[] c, int from, int to, byte[] results, int resultsOffset) {
+                bulkCalls[0]++;
+                return super.classifyAll(a, b, c, from, to, results, resultsOffset);
+            }
+        };
+        PackedTriangleTypeArray array = new PackedTriangleTypeArray(n);
+
+        vector.classifyAll(a, b, c, array, 0);
+
+        for (int i = 0; i < n; i++) {
+            assertThat(array.get(i).getCode()).isEqualTo(expected[i]);
+        }
+        assertThat(bulkCalls[0]).isEqualTo(3); // 4096-triple blocks
+
+        c[9_000] = -1;
+        assertThatThrownBy(() -> vector.classifyAll(a, b, c, array, 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("triple 9000");
+    }
+}
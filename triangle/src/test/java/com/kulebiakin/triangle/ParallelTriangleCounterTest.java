@@ -0,0 +1,72 @@
+package com.kulebiakin.triangle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelTriangleCounterTest {
+
+    private final ParallelTriangleCounter counter =
+        new ParallelTriangleCounter(new TriangleClassifier(), ForkJoinPool.commonPool(), 1000);
+
+    @Test
+    @DisplayName("count: Histogram should match sequential classify results")
+    void testMatchesSequentialCounts() {
+        int n = 100_003;
+        Random random = new Random(5);
+        int[] a = new int[n];
+        int[] b = new int[n];
+        int[] c = new int[n];
+        int[] sides = new int[n * 3];
+        long[] expected = new long[TriangleType.values().length];
+        long expectedNegative = 0;
+        TriangleClassifier classifier = new TriangleClassifier();
+        for (int i = 0; i < n; i++) {
+            a[i] = random.nextInt(12) - 1;
+            b[i] = random.nextInt(12) - 1;
+            c[i] = random.nextInt(12) - 1;
+            sides[i * 3] = a[i];
+            sides[i * 3 + 1] = b[i];
+            sides[i * 3 + 2] = c[i];
+            if (a[i] < 0 || b[i] < 0 || c[i] < 0) {
+                expectedNegative++;
+            } else {
+                expected[classifier.classify(a[i], b[i], c[i]).ordinal()]++;
+            }
+        }
+
+        TriangleHistogram histogram = counter.count(a, b, c);
+
+        for (TriangleType type : TriangleType.values()) {
+            assertThat(histogram.getCount(type)).as(type.name()).isEqualTo(expected[type.ordinal()]);
+        }
+        assertThat(histogram.getNegativeCount()).isEqualTo(expectedNegative);
+        assertThat(histogram.getInvalidCount()).isEqualTo(expected[TriangleType.NOT_A_TRIANGLE.ordinal()]);
+        assertThat(histogram.getTotal()).isEqualTo(n);
+        assertThat(counter.count(sides)).isEqualTo(histogram);
+    }
+
+    @Test
+    @DisplayName("count: Empty input should produce an empty histogram")
+    void testEmptyInput() {
+        TriangleHistogram histogram = counter.count(new int[0]);
+
+        assertThat(histogram.getTotal()).isZero();
+        assertThat(histogram.asMap()).containsOnlyKeys(TriangleType.values()).doesNotContainValue(1L);
+    }
+
+    @Test
+    @DisplayName("asMap: Histogram view should be immutable")
+    void testHistogramIsImmutable() {
+        TriangleHistogram histogram = counter.count(new int[]{3, 3, 3});
+
+        assertThat(histogram.asMap()).containsEntry(TriangleType.EQUILATERAL, 1L);
+        assertThatThrownBy(() -> histogram.asMap().put(TriangleType.SCALENE, 1L))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
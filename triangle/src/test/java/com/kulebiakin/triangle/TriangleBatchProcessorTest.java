@@ -0,0 +1,88 @@
+package com.kulebiakin.triangle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TriangleBatchProcessorTest {
+
+    private final TriangleBatchProcessor processor = new TriangleBatchProcessor(new TriangleClassifier(), 4);
+
+    @Test
+    @DisplayName("process: Should classify whitespace and CSV separated triples")
+    void testSeparators() throws IOException {
+        String output = run("3 4 5\n3,3,3\r\n5, 3,\t3\n1 2 3\n");
+
+        assertThat(output).isEqualTo("SCALENE\nEQUILATERAL\nISOSCELES\nNOT_A_TRIANGLE\n");
+    }
+
+    @Test
+    @DisplayName("process: Blank lines and a missing final newline should be handled")
+    void testBlankLinesAndLastLine() throws IOException {
+        assertThat(run("\n3 4 5\n\n   \n3 3 3")).isEqualTo("SCALENE\nEQUILATERAL\n");
+    }
+
+    @ParameterizedTest(name = "\"{0}\" -> {1}")
+    @CsvSource(delimiter = '|', value = {
+        "-1 3 3      | Side lengths cannot be negative",
+        "3 3         | Expected 3 sides but found 2",
+        "3 3 3 3     | Expected 3 sides but found more",
+        "3 x 3       | Unexpected character 'x'",
+        "3 - 3       | Sign without digits",
+        "3 4-5 6     | Unexpected character '-'",
+        "2147483648 1 1 | Value out of range",
+    })
+    @DisplayName("process: Invalid lines should be reported without aborting the run")
+    void testErrorLines(String line, String message) throws IOException {
+        String output = run("3 4 5\n" + line + "\n3 3 3\n");
+
+        assertThat(output).isEqualTo("SCALENE\nERROR line 2: " + message + "\nEQUILATERAL\n");
+    }
+
+    @Test
+    @DisplayName("process: Results should match classify across many batches")
+    void testManyBatches() throws IOException {
+        TriangleClassifier classifier = new TriangleClassifier();
+        StringBuilder input = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int a = 1; a <= 20; a++) {
+            for (int b = 1; b <= 20; b++) {
+                input.append(a).append(' ').append(b).append(' ').append(Integer.MAX_VALUE).append('\n');
+                expected.append(classifier.classify(a, b, Integer.MAX_VALUE)).append('\n');
+                input.append(a).append(',').append(b).append(',').append(a + b - 1).append('\n');
+                expected.append(classifier.classify(a, b, a + b - 1)).append('\n');
+            }
+        }
+
+        assertThat(run(input.toString())).isEqualTo(expected.toString());
+    }
+
+    @Test
+    @DisplayName("process: Summary should count results per type and errors")
+    void testSummary() throws IOException {
+        byte[] input = "3 4 5\n3 3 3\n3 3 3\n-1 2 2\nfoo\n".getBytes(StandardCharsets.US_ASCII);
+
+        TriangleBatchProcessor.BatchSummary summary =
+            processor.process(new ByteArrayInputStream(input), new ByteArrayOutputStream());
+
+        assertThat(summary.getRecords()).isEqualTo(5);
+        assertThat(summary.getErrors()).isEqualTo(2);
+        assertThat(summary.getCount(TriangleType.EQUILATERAL)).isEqualTo(2);
+        assertThat(summary.getCount(TriangleType.SCALENE)).isEqualTo(1);
+        assertThat(summary.getCount(TriangleType.ISOSCELES)).isZero();
+    }
+
+    private String run(String input) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        processor.process(new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII)), out);
+        return out.toString(StandardCharsets.US_ASCII);
+    }
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.Random;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -128,4 +129,161 @@ class TriangleClassifierTest {
         assertThatThrownBy(() -> classifier.classify(3, 3, -1))
             .isInstanceOf(IllegalArgumentException.class);
     }
+
+    // Angle classification Tests
+    @ParameterizedTest(name = "classifyAngle({0}, {1}, {2}) = {3}")
+    @CsvSource({
+        "3, 4, 5, RIGHT",
+        "13, 5, 12, RIGHT",
+        "3, 3, 3, ACUTE",
+        "5, 6, 7, ACUTE",
+        "2, 3, 4, OBTUSE",
+        "7, 3, 5, OBTUSE",
+        "2147483647, 2147483647, 2147483647, ACUTE",
+        "2147483647, 2147483646, 2, OBTUSE",
+        "1518500249, 1518500249, 2147483647, OBTUSE",
+        "1518500250, 1518500250, 2147483647, ACUTE"
+    })
+    @DisplayName("classifyAngle: Should classify acute, right and obtuse triangles exactly")
+    void testClassifyAngle(int a, int b, int c, AngleType expected) {
+        assertThat(classifier.classifyAngle(a, b, c)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("classifyAngle: Should reject negative sides and non-triangles")
+    void testClassifyAngleInvalidInput() {
+        assertThatThrownBy(() -> classifier.classifyAngle(-3, 4, 5))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(() -> classifier.classifyAngle(1, 2, 3))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("classifyWithAngle: Should return side and angle classification in one result")
+    void testClassifyWithAngle() {
+        TriangleClassification right = classifier.classifyWithAngle(5, 3, 4);
+        assertThat(right.getType()).isEqualTo(TriangleType.SCALENE);
+        assertThat(right.getAngle()).isEqualTo(AngleType.RIGHT);
+
+        TriangleClassification obtuse = classifier.classifyWithAngle(3, 3, 5);
+        assertThat(obtuse.getType()).isEqualTo(TriangleType.ISOSCELES);
+        assertThat(obtuse.getAngle()).isEqualTo(AngleType.OBTUSE);
+
+        TriangleClassification invalid = classifier.classifyWithAngle(1, 1, 3);
+        assertThat(invalid.getType()).isEqualTo(TriangleType.NOT_A_TRIANGLE);
+        assertThat(invalid.getAngle()).isNull();
+
+        assertThatThrownBy(() -> classifier.classifyWithAngle(3, 3, -1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("classifyWithAngle: Should agree with floating point angles on small triangles")
+    void testClassifyWithAngleMatchesLawOfCosines() {
+        for (int a = 1; a <= 30; a++) {
+            for (int b = 1; b <= 30; b++) {
+                for (int c = 1; c <= 30; c++) {
+                    TriangleClassification result = classifier.classifyWithAngle(a, b, c);
+                    assertThat(result.getType()).isEqualTo(classifier.classify(a, b, c));
+                    if (result.getType() != TriangleType.NOT_A_TRIANGLE) {
+                        double longest = Math.max(a, Math.max(b, c));
+                        double cosine = (a * a + b * b + c * c - 2 * longest * longest) / (2.0 * a * b * c);
+                        AngleType expected = Math.abs(cosine) < 1e-12 ? AngleType.RIGHT
+                            : cosine > 0 ? AngleType.ACUTE : AngleType.OBTUSE;
+                        assertThat(result.getAngle()).as("(%d, %d, %d)", a, b, c).isEqualTo(expected);
+                    }
+                }
+            }
+        }
+    }
+
+    // Bulk classification Tests
+    @Test
+    @DisplayName("classifyAll: Column results should match classify")
+    void testClassifyAllColumnsMatchesClassify() {
+        Random random = new Random(42);
+        int n = 10_000;
+        int[] a = new int[n];
+        int[] b = new int[n];
+        int[] c = new int[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = random.nextInt(8);
+            b[i] = random.nextInt(8);
+            c[i] = random.nextInt(8);
+        }
+        a[n - 1] = Integer.MAX_VALUE;
+        b[n - 1] = Integer.MAX_VALUE;
+        c[n - 1] = Integer.MAX_VALUE - 1;
+
+        byte[] results = new byte[n];
+        assertThat(classifier.classifyAll(a, b, c, results)).isEqualTo(-1);
+
+        for (int i = 0; i < n; i++) {
+            assertThat(TriangleType.fromCode(results[i]))
+                .as("(%d, %d, %d)", a[i], b[i], c[i])
+                .isEqualTo(classifier.classify(a[i], b[i], c[i]));
+        }
+    }
+
+    @Test
+    @DisplayName("classifyAll: Interleaved results should match classify")
+    void testClassifyAllInterleaved() {
+        int[] sides = {3, 4, 5, 3, 3, 3, 5, 3, 3, 1, 2, 3, 0, 3, 3};
+        byte[] results = new byte[5];
+
+        assertThat(classifier.classifyAll(sides, results)).isEqualTo(-1);
+        assertThat(results).containsExactly(
+            TriangleType.SCALENE.getCode(),
+            TriangleType.EQUILATERAL.getCode(),
+            TriangleType.ISOSCELES.getCode(),
+            TriangleType.NOT_A_TRIANGLE.getCode(),
+            TriangleType.NOT_A_TRIANGLE.getCode());
+    }
+
+    @Test
+    @DisplayName("classifyAll: Results offset should classify a sub-range in place")
+    void testClassifyAllWithResultsOffset() {
+        int[] a = {3, 3, 5, 1, -1};
+        int[] b = {4, 3, 3, 2, 3};
+        int[] c = {5, 3, 3, 3, 3};
+        int[] sides = {3, 4, 5, 3, 3, 3, 5, 3, 3, 1, 2, 3, -1, 3, 3};
+        byte[] columnResults = new byte[3];
+        byte[] interleavedResults = new byte[3];
+
+        assertThat(classifier.classifyAll(a, b, c, 2, 5, columnResults, 0)).isEqualTo(4);
+        assertThat(classifier.classifyAll(sides, 2, 5, interleavedResults, 0)).isEqualTo(4);
+        assertThat(columnResults).containsExactly(
+            TriangleType.ISOSCELES.getCode(), TriangleType.NOT_A_TRIANGLE.getCode(), TriangleClassifier.NEGATIVE_SIDE);
+        assertThat(interleavedResults).isEqualTo(columnResults);
+        assertThatThrownBy(() -> classifier.classifyAll(a, b, c, 0, 4, columnResults, 0))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("classifyAll: Negative sides should be reported instead of thrown")
+    void testClassifyAllNegativeSides() {
+        int[] a = {3, -1, 3, 3};
+        int[] b = {4, 3, 3, -5};
+        int[] c = {5, 3, 3, 3};
+        byte[] results = new byte[4];
+
+        assertThat(classifier.classifyAll(a, b, c, results)).isEqualTo(1);
+        assertThat(results[1]).isEqualTo(TriangleClassifier.NEGATIVE_SIDE);
+        assertThat(results[3]).isEqualTo(TriangleClassifier.NEGATIVE_SIDE);
+        assertThat(TriangleType.fromCode(results[2])).isEqualTo(TriangleType.EQUILATERAL);
+    }
+
+    @Test
+    @DisplayName("classifyAll: Mismatched input lengths should be rejected")
+    void testClassifyAllRejectsMismatchedLengths() {
+        assertThatThrownBy(() -> classifier.classifyAll(new int[2], new int[2], new int[1], new byte[2]))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(() -> classifier.classifyAll(new int[4], new byte[1]))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(() -> classifier.classifyAll(new int[6], new byte[1]))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+    }
 }
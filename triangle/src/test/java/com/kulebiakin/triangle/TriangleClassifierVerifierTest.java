@@ -0,0 +1,73 @@
+package com.kulebiakin.triangle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TriangleClassifierVerifierTest {
+
+    @Test
+    @DisplayName("verifyExhaustive: Should check every permutation of small triples")
+    void testExhaustiveCountsAllPermutations() {
+        int bound = 12;
+        TriangleClassifierVerifier.Report report = new TriangleClassifierVerifier(new TriangleClassifier())
+            .verifyExhaustive(bound);
+
+        assertThat(report.isPassed()).isTrue();
+        assertThat(report.getChecked()).isEqualTo((long) (bound + 1) * (bound + 1) * (bound + 1));
+        assertThat(report.getTriplesPerSecond()).isPositive();
+    }
+
+    @Test
+    @DisplayName("verify: Vector engine should agree with the reference classifier")
+    void testVectorEnginePasses() {
+        TriangleClassifierVerifier verifier = new TriangleClassifierVerifier(new VectorTriangleClassifier());
+
+        assertThat(verifier.verifyExhaustive(40).isPassed()).isTrue();
+        assertThat(verifier.fuzz(200_000, 1).isPassed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("fuzz: Should find and shrink an overflow bug")
+    void testFuzzFindsOverflowBug() {
+        TriangleClassifier overflowing = new TriangleClassifier() {
+            @Override
+            public boolean isValidTriangle(int a, int b, int c) {
+                return a > 0 && b > 0 && c > 0 && a + b > c && b + c > a && a + c > b;
+            }
+        };
+
+        TriangleClassifierVerifier.Report report = new TriangleClassifierVerifier(overflowing).fuzz(100_000, 1);
+
+        assertThat(report.isPassed()).isFalse();
+        TriangleClassifierVerifier.Mismatch mismatch = report.getMismatch();
+        TriangleClassifier reference = new TriangleClassifier();
+        assertThat(overflowing.classify(mismatch.getA(), mismatch.getB(), mismatch.getC()))
+            .isNotEqualTo(reference.classify(mismatch.getA(), mismatch.getB(), mismatch.getC()));
+        assertThat((long) mismatch.getA() + mismatch.getB() + mismatch.getC()).isGreaterThan(Integer.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("verifyExhaustive: Should report a minimal reproducer for a bulk-only bug")
+    void testExhaustiveFindsBulkBug() {
+        TriangleClassifier brokenBulk = new TriangleClassifier() {
+            @Override
+            public int classifyAll(int[] a, int[] b, int[] c, int from, int to, byte[] results) {
+                int firstNegative = super.classifyAll(a, b, c, from, to, results);
+                for (int i = from; i < to; i++) {
+                    if (a[i] == 7 && b[i] >= 5) {
+                        results[i] = TriangleType.SCALENE.getCode();
+                    }
+                }
+                return firstNegative;
+            }
+        };
+
+        TriangleClassifierVerifier.Report report = new TriangleClassifierVerifier(brokenBulk).verifyExhaustive(10);
+
+        assertThat(report.isPassed()).isFalse();
+        assertThat(report.getMismatch().getA()).isEqualTo(7);
+        assertThat(report.getMismatch().toString()).contains("classifyAll: SCALENE");
+    }
+}
@@ -0,0 +1,189 @@
+package com.kulebiakin.triangle;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class TriangleCoordinatorTest {
+
+    private final List<AutoCloseable> resources = new ArrayList<>();
+
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    void closeResources() throws Exception {
+        for (AutoCloseable resource : resources) {
+            resource.close();
+        }
+    }
+
+    @Test
+    @DisplayName("classify: Results from several workers should match local classification")
+    void testClassifyAcrossWorkers() throws IOException {
+        int[] sides = randomSides(50_000);
+
+        byte[] results = new TriangleCoordinator(List.of(worker(), worker(), worker()), 1000).classify(sides);
+
+        assertThat(results).isEqualTo(localResults(sides));
+    }
+
+    @Test
+    @DisplayName("count: Histogram from workers should match the local counter")
+    void testCountAcrossWorkers() throws IOException {
+        int[] sides = randomSides(30_001);
+
+        TriangleHistogram histogram = new TriangleCoordinator(List.of(worker(), worker()), 777).count(sides);
+
+        assertThat(histogram).isEqualTo(new ParallelTriangleCounter().count(sides));
+    }
+
+    @Test
+    @DisplayName("classify: Ranges of workers dying mid-range should be reassigned")
+    void testWorkerFailureReassignsRanges() throws IOException {
+        int[] sides = randomSides(20_000);
+        List<InetSocketAddress> workers = List.of(dyingWorker(), worker(), dyingWorker(), unreachableWorker());
+
+        byte[] results = new TriangleCoordinator(workers, 500).classify(sides);
+
+        assertThat(results).isEqualTo(localResults(sides));
+    }
+
+    @Test
+    @DisplayName("classify: Should fail when no worker is left")
+    void testAllWorkersFail() throws IOException {
+        List<InetSocketAddress> workers = List.of(dyingWorker(), unreachableWorker());
+
+        assertThatThrownBy(() -> new TriangleCoordinator(workers, 100).classify(randomSides(1000)))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("All workers failed");
+    }
+
+    @Test
+    @DisplayName("classify: Ranges of workers that stop answering should be reassigned after the read timeout")
+    void testHangingWorkerTimesOut() throws IOException {
+        int[] sides = randomSides(5_000);
+        List<InetSocketAddress> workers = List.of(hangingWorker(), worker());
+
+        byte[] results = new TriangleCoordinator(workers, 500, 300).classify(sides);
+
+        assertThat(results).isEqualTo(localResults(sides));
+    }
+
+    @Test
+    @DisplayName("classifyFile: Output errors should abort the run instead of failing the workers")
+    void testOutputErrorAbortsRun() throws IOException {
+        Path full = Path.of("/dev/full");
+        assumeTrue(Files.isWritable(full), "needs /dev/full");
+        int[] sides = randomSides(5_000);
+        ByteBuffer buffer = ByteBuffer.allocate(sides.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asIntBuffer().put(sides);
+        Path input = dir.resolve("in.bin");
+        Files.write(input, buffer.array());
+
+        assertThatThrownBy(() -> new TriangleCoordinator(List.of(worker(), worker()), 1000).classifyFile(input, full))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("Cannot write results")
+            .hasMessageNotContaining("All workers failed");
+    }
+
+    @Test
+    @DisplayName("classifyFile: Binary files should be classified through workers")
+    void testClassifyFile() throws IOException {
+        int[] sides = randomSides(12_345);
+        ByteBuffer buffer = ByteBuffer.allocate(sides.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asIntBuffer().put(sides);
+        Path input = dir.resolve("in.bin");
+        Path output = dir.resolve("out.bin");
+        Files.write(input, buffer.array());
+
+        TriangleCoordinator coordinator = new TriangleCoordinator(List.of(worker(), worker()), 1000);
+        coordinator.classifyFile(input, output);
+
+        assertThat(Files.readAllBytes(output)).isEqualTo(localResults(sides));
+        assertThat(coordinator.countFile(input)).isEqualTo(new ParallelTriangleCounter().count(sides));
+    }
+
+    private InetSocketAddress worker() throws IOException {
+        TriangleWorker worker = TriangleWorker.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        resources.add(worker);
+        return worker.getAddress();
+    }
+
+    // Accepts connections, reads part of the first task and drops the connection
+    private InetSocketAddress dyingWorker() throws IOException {
+        ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        resources.add(serverSocket);
+        Thread thread = new Thread(() -> {
+            while (!serverSocket.isClosed()) {
+                try (Socket socket = serverSocket.accept(); InputStream in = socket.getInputStream()) {
+                    in.readNBytes(100);
+                } catch (IOException e) {
+                    // closed
+                }
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+        return new InetSocketAddress(serverSocket.getInetAddress(), serverSocket.getLocalPort());
+    }
+
+    // Accepts connections and reads tasks without ever answering
+    private InetSocketAddress hangingWorker() throws IOException {
+        ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        resources.add(serverSocket);
+        Thread thread = new Thread(() -> {
+            while (!serverSocket.isClosed()) {
+                try (Socket socket = serverSocket.accept(); InputStream in = socket.getInputStream()) {
+                    in.transferTo(OutputStream.nullOutputStream());
+                } catch (IOException e) {
+                    // closed
+                }
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+        return new InetSocketAddress(serverSocket.getInetAddress(), serverSocket.getLocalPort());
+    }
+
+    private InetSocketAddress unreachableWorker() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            return new InetSocketAddress(serverSocket.getInetAddress(), serverSocket.getLocalPort());
+        }
+    }
+
+    private static int[] randomSides(int triples) {
+        Random random = new Random(triples);
+        int[] sides = new int[triples * 3];
+        for (int i = 0; i < sides.length; i++) {
+            sides[i] = random.nextInt(20) == 0 ? -1 : random.nextInt(10);
+        }
+        return sides;
+    }
+
+    private static byte[] localResults(int[] sides) {
+        byte[] results = new byte[sides.length / 3];
+        new TriangleClassifier().classifyAll(sides, results);
+        return results;
+    }
+}
@@ -0,0 +1,105 @@
+package com.kulebiakin.triangle;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TriangleServerTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private TriangleServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = TriangleServer.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+    }
+
+    @ParameterizedTest(name = "{0} -> {1} {2}")
+    @CsvSource(delimiter = '|', value = {
+        "a=3&b=4&c=5  | 200 | SCALENE",
+        "a=3&b=3&c=3  | 200 | EQUILATERAL",
+        "a=1&b=2&c=3  | 200 | NOT_A_TRIANGLE",
+        "a=-1&b=3&c=3 | 400 | Side lengths cannot be negative",
+        "a=3&b=3      | 400 | Missing parameter 'c'",
+        "a=3&b=x&c=3  | 400 | Invalid parameter 'b': x",
+    })
+    @DisplayName("GET /classify: Should classify a single triple")
+    void testClassifyOne(String query, int status, String body) throws Exception {
+        HttpResponse<String> response = get("/classify?" + query);
+
+        assertThat(response.statusCode()).isEqualTo(status);
+        assertThat(response.body()).isEqualTo(body + "\n");
+    }
+
+    @Test
+    @DisplayName("POST /classify/batch: Should stream one result per input line")
+    void testClassifyBatch() throws Exception {
+        String input = IntStream.rangeClosed(1, 20_000)
+            .mapToObj(i -> i % 1000 == 0 ? "oops" : i + " " + i + " " + (i % 7 + 1))
+            .collect(Collectors.joining("\n"));
+        HttpRequest request = HttpRequest.newBuilder(uri("/classify/batch"))
+            .POST(HttpRequest.BodyPublishers.ofString(input))
+            .build();
+
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        String[] lines = response.body().split("\n");
+        assertThat(lines).hasSize(20_000);
+        assertThat(lines[0]).isEqualTo("NOT_A_TRIANGLE");
+        assertThat(lines[2]).isEqualTo("ISOSCELES");
+        assertThat(lines[999]).isEqualTo("ERROR line 1000: Unexpected character 'o'");
+    }
+
+    @Test
+    @DisplayName("Routing: Should reject unknown paths and wrong methods")
+    void testRouting() throws Exception {
+        assertThat(get("/classify/other").statusCode()).isEqualTo(404);
+        assertThat(get("/classify/batch").statusCode()).isEqualTo(405);
+        assertThat(get("/nothing").statusCode()).isEqualTo(404);
+    }
+
+    @Test
+    @DisplayName("GET /metrics: Should report request counts and latency percentiles")
+    void testMetrics() throws Exception {
+        get("/classify?a=3&b=4&c=5");
+        get("/classify?a=3&b=4&c=5");
+        get("/classify?a=-3&b=4&c=5");
+
+        String metrics = get("/metrics").body();
+
+        assertThat(metrics)
+            .contains("triangle_requests_total{endpoint=\"/classify\"} 3")
+            .contains("triangle_request_errors_total{endpoint=\"/classify\"} 1")
+            .contains("triangle_requests_total{endpoint=\"/classify/batch\"} 0")
+            .contains("triangle_request_latency_seconds{endpoint=\"/classify\",quantile=\"0.99\"}");
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path)).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getPort() + path);
+    }
+}
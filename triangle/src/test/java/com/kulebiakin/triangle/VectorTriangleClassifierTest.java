@@ -0,0 +1,142 @@
+package com.kulebiakin.triangle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VectorTriangleClassifierTest {
+
+    private static final int[] EDGE_VALUES = {
+        -1, 0, 1, 2, 3, Integer.MAX_VALUE / 2, Integer.MAX_VALUE / 2 + 1, Integer.MAX_VALUE - 1, Integer.MAX_VALUE,
+        Integer.MIN_VALUE
+    };
+
+    private final TriangleClassifier scalar = new TriangleClassifier();
+    private final TriangleClassifier vector = new VectorTriangleClassifier();
+
+    @Test
+    @DisplayName("fastest: Should pick the vector engine when the incubator module is resolved")
+    void testFastestUsesVectorEngine() {
+        assertThat(TriangleClassifier.fastest()).isInstanceOf(VectorTriangleClassifier.class);
+    }
+
+    @ParameterizedTest(name = "length = {0}")
+    @ValueSource(ints = {0, 1, 7, 64, 1000, 4099})
+    @DisplayName("classifyAll: Vector results should match the scalar classifier")
+    void testMatchesScalarOnRandomInput(int n) {
+        Random random = new Random(n);
+        int[] a = new int[n];
+        int[] b = new int[n];
+        int[] c = new int[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = random.nextInt(6);
+            b[i] = random.nextInt(6);
+            c[i] = random.nextInt(6);
+        }
+        assertSameResults(a, b, c);
+    }
+
+    @Test
+    @DisplayName("classifyAll: Overflow and negative edge values should match the scalar classifier")
+    void testMatchesScalarOnEdgeValues() {
+        int n = EDGE_VALUES.length * EDGE_VALUES.length * EDGE_VALUES.length;
+        int[] a = new int[n];
+        int[] b = new int[n];
+        int[] c = new int[n];
+        int i = 0;
+        for (int x : EDGE_VALUES) {
+            for (int y : EDGE_VALUES) {
+                for (int z : EDGE_VALUES) {
+                    a[i] = x;
+                    b[i] = y;
+                    c[i] = z;
+                    i++;
+                }
+            }
+        }
+        assertSameResults(a, b, c);
+    }
+
+    @Test
+    @DisplayName("classifyAll: Sub-range should leave other results untouched")
+    void testSubRange() {
+        int[] a = {3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3};
+        byte[] results = new byte[a.length];
+        results[0] = 42;
+        results[19] = 42;
+
+        assertThat(vector.classifyAll(a, a, a, 1, 19, results)).isEqualTo(-1);
+        assertThat(results[0]).isEqualTo((byte) 42);
+        assertThat(results[19]).isEqualTo((byte) 42);
+        for (int i = 1; i < 19; i++) {
+            assertThat(results[i]).isEqualTo(TriangleType.EQUILATERAL.getCode());
+        }
+    }
+
+    @Test
+    @DisplayName("classifyAll: Results offset should write a sub-range of the columns into a small buffer")
+    void testResultsOffset() {
+        Random random = new Random(7);
+        int[] a = random.ints(1000, 0, 6).toArray();
+        int[] b = random.ints(1000, 0, 6).toArray();
+        int[] c = random.ints(1000, 0, 6).toArray();
+        c[700] = -2;
+        byte[] expected = new byte[1000];
+        scalar.classifyAll(a, b, c, expected);
+        byte[] buffer = new byte[302];
+        buffer[0] = 42;
+        buffer[301] = 42;
+
+        assertThat(vector.classifyAll(a, b, c, 500, 800, buffer, 1)).isEqualTo(700);
+        assertThat(buffer[0]).isEqualTo((byte) 42);
+        assertThat(buffer[301]).isEqualTo((byte) 42);
+        for (int i = 500; i < 800; i++) {
+            assertThat(buffer[i - 499]).isEqualTo(expected[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("classifyAll: Interleaved sub-range should write into a results offset")
+    void testInterleavedResultsOffset() {
+        int[] sides = new Random(11).ints(3000, 0, 6).toArray();
+        sides[700 * 3 + 1] = -2;
+        byte[] expected = new byte[1000];
+        scalar.classifyAll(sides, expected);
+        byte[] buffer = new byte[302];
+        buffer[0] = 42;
+        buffer[301] = 42;
+
+        assertThat(vector.classifyAll(sides, 500, 800, buffer, 1)).isEqualTo(700);
+        assertThat(buffer[0]).isEqualTo((byte) 42);
+        assertThat(buffer[301]).isEqualTo((byte) 42);
+        for (int i = 500; i < 800; i++) {
+            assertThat(buffer[i - 499]).isEqualTo(expected[i]);
+        }
+    }
+
+    private void assertSameResults(int[] a, int[] b, int[] c) {
+        byte[] expected = new byte[a.length];
+        byte[] actual = new byte[a.length];
+
+        int expectedNegative = scalar.classifyAll(a, b, c, expected);
+        int actualNegative = vector.classifyAll(a, b, c, actual);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actualNegative).isEqualTo(expectedNegative);
+
+        int[] sides = new int[a.length * 3];
+        for (int i = 0; i < a.length; i++) {
+            sides[i * 3] = a[i];
+            sides[i * 3 + 1] = b[i];
+            sides[i * 3 + 2] = c[i];
+        }
+        byte[] interleaved = new byte[a.length];
+        assertThat(vector.classifyAll(sides, interleaved)).as("interleaved").isEqualTo(expectedNegative);
+        assertThat(interleaved).as("interleaved").isEqualTo(expected);
+    }
+}